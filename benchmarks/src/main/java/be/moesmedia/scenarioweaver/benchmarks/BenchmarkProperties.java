@@ -0,0 +1,53 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+
+public final class BenchmarkProperties implements TestCaseProperties {
+    private String endpoint;
+    private Integer timeoutMillis;
+    private String tenant;
+    private Boolean verbose;
+
+    public BenchmarkProperties() {}
+
+    public BenchmarkProperties(
+            final String endpoint, final Integer timeoutMillis, final String tenant, final Boolean verbose) {
+        this.endpoint = endpoint;
+        this.timeoutMillis = timeoutMillis;
+        this.tenant = tenant;
+        this.verbose = verbose;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Integer getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public Boolean getVerbose() {
+        return verbose;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkScenarios {
+    private BenchmarkScenarios() {}
+
+    public static List<TestCase<String, BenchmarkProperties, Integer, String>> create(final int count) {
+        final List<TestCase<String, BenchmarkProperties, Integer, String>> scenarios = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            scenarios.add(new Scenario("scenario-" + index));
+        }
+        return scenarios;
+    }
+
+    private record Scenario(String name) implements TestCase<String, BenchmarkProperties, Integer, String> {
+        @Override
+        public String description() {
+            return "Benchmark " + name;
+        }
+
+        @Override
+        public PayloadProvider<String, String> payloadProvider() {
+            return input -> name;
+        }
+
+        @Override
+        public PropertiesProvider<BenchmarkProperties, String> propertiesProvider() {
+            return context -> context == null
+                    ? new BenchmarkProperties("http://localhost", null, null, Boolean.FALSE)
+                    : new BenchmarkProperties(null, 1000, context, Boolean.TRUE);
+        }
+
+        @Override
+        public StubsProvider<String, BenchmarkProperties, String> stubs() {
+            return (payload, properties) -> "tenant-" + payload;
+        }
+
+        @Override
+        public List<AssertionsProvider<Integer, String, String>> assertions() {
+            return List.of((result, payload, context) -> {
+                if (result != payload.length()) {
+                    throw new AssertionError("Unexpected result " + result);
+                }
+            });
+        }
+
+        @Override
+        public ActionProvider<String, BenchmarkProperties, Integer> actionProvider() {
+            return (payload, properties) -> payload.length();
+        }
+    }
+}
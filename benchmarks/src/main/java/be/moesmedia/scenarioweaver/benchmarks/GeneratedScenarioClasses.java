@@ -0,0 +1,111 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+final class GeneratedScenarioClasses {
+    static final String PACKAGE = "be.moesmedia.scenarioweaver.benchmarks.generated";
+
+    private static final String COMPLETE_MARKER = ".complete";
+
+    private GeneratedScenarioClasses() {}
+
+    @SuppressFBWarnings(
+            value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED",
+            justification = "Benchmarks run without a security manager, which JDK 21 deprecates for removal")
+    static URLClassLoader load(final int count) {
+        try {
+            final Path outputDirectory = Path.of(
+                    System.getProperty("java.io.tmpdir"), "scenario-weaver-benchmarks", Integer.toString(count));
+            if (!Files.exists(outputDirectory.resolve(COMPLETE_MARKER))) {
+                compile(count, outputDirectory);
+            }
+            return new URLClassLoader(
+                    new URL[] {outputDirectory.toUri().toURL()}, GeneratedScenarioClasses.class.getClassLoader());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void compile(final int count, final Path outputDirectory) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Generating scenario classes requires a JDK, not a JRE");
+        }
+        Files.createDirectories(outputDirectory);
+        final List<JavaFileObject> sources = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            sources.add(new SourceFile("GeneratedScenario" + index, source(index)));
+        }
+        final boolean compiled = compiler.getTask(
+                        null,
+                        null,
+                        null,
+                        List.of(
+                                "-proc:none",
+                                "-d",
+                                outputDirectory.toString(),
+                                "-cp",
+                                System.getProperty("java.class.path")),
+                        null,
+                        sources)
+                .call();
+        if (!compiled) {
+            throw new IllegalStateException("Failed to compile " + count + " generated scenario classes");
+        }
+        Files.createFile(outputDirectory.resolve(COMPLETE_MARKER));
+    }
+
+    private static String source(final int index) {
+        return "package " + PACKAGE + ";\n"
+                + "@be.moesmedia.scenarioweaver.spring.ConfigureTestCase(name = \"generated" + index + "\","
+                + " stubsProvider = \"benchmarkStubsProvider\", propertiesProvider = \"benchmarkPropertiesProvider\","
+                + " payloadProvider = \"benchmarkPayloadProvider\", actionProvider = \"benchmarkActionProvider\")\n"
+                + "public class GeneratedScenario" + index + " {}\n";
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String content;
+
+        private SourceFile(final String className, final String content) {
+            super(
+                    URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + className + Kind.SOURCE.extension),
+                    Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
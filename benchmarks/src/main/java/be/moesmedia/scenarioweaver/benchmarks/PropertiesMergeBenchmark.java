@@ -0,0 +1,70 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertiesMergeBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int scenarioCount;
+
+    private BenchmarkProperties[] initialProperties;
+    private BenchmarkProperties[] contextProperties;
+
+    @Setup
+    public final void createProperties() {
+        initialProperties = new BenchmarkProperties[scenarioCount];
+        contextProperties = new BenchmarkProperties[scenarioCount];
+        for (int index = 0; index < scenarioCount; index++) {
+            initialProperties[index] = new BenchmarkProperties("http://localhost/" + index, null, null, Boolean.FALSE);
+            contextProperties[index] = new BenchmarkProperties(null, index, "tenant-" + index, Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public final void cachedMerge(final Blackhole blackhole) {
+        for (int index = 0; index < scenarioCount; index++) {
+            blackhole.consume(initialProperties[index].merge(contextProperties[index]));
+        }
+    }
+
+    @Benchmark
+    public final void reflectiveMerge(final Blackhole blackhole) {
+        for (int index = 0; index < scenarioCount; index++) {
+            blackhole.consume(ReflectivePropertiesMerge.merge(initialProperties[index], contextProperties[index]));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import java.util.Arrays;
+
+final class ReflectivePropertiesMerge {
+    private ReflectivePropertiesMerge() {}
+
+    @SuppressWarnings("unchecked")
+    static <TPropertiesType extends TestCaseProperties> TPropertiesType merge(
+            final TPropertiesType original, final TPropertiesType newProperties) {
+        try {
+            final Class<?> clazz = original.getClass();
+            final TPropertiesType mergedProperties =
+                    (TPropertiesType) clazz.getDeclaredConstructor().newInstance();
+
+            Arrays.stream(clazz.getDeclaredFields()).forEach(field -> {
+                try {
+                    field.setAccessible(true);
+                    final Object originalValue = field.get(original);
+                    final Object newValue = field.get(newProperties);
+                    if (originalValue != null) {
+                        field.set(mergedProperties, originalValue);
+                    } else if (newValue != null) {
+                        field.set(mergedProperties, newValue);
+                    }
+                } catch (final IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            return mergedProperties;
+        } catch (final Exception e) {
+            throw new RuntimeException("Failed to merge properties", e);
+        }
+    }
+}
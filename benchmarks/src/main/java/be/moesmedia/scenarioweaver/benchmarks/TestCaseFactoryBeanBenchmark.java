@@ -0,0 +1,93 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import be.moesmedia.scenarioweaver.benchmarks.fixture.FixtureProviders;
+import be.moesmedia.scenarioweaver.benchmarks.fixture.FixtureTestCase;
+import be.moesmedia.scenarioweaver.spring.TestCaseFactoryBean;
+import be.moesmedia.scenarioweaver.spring.TestCaseScope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestCaseFactoryBeanBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int scenarioCount;
+
+    @Param({"SINGLETON", "PROTOTYPE"})
+    private TestCaseScope scope;
+
+    private GenericApplicationContext context;
+    private TestCaseFactoryBean[] factoryBeans;
+
+    @Setup
+    public final void createContext() {
+        context = new GenericApplicationContext();
+        FixtureProviders.register(context);
+        for (int index = 0; index < scenarioCount; index++) {
+            final GenericBeanDefinition definition = new GenericBeanDefinition();
+            definition.setBeanClass(TestCaseFactoryBean.class);
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(0, FixtureTestCase.class);
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(1, "benchmarkStubsProvider");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(2, "benchmarkPropertiesProvider");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(3, "benchmarkPayloadProvider");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(4, "benchmarkActionProvider");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(5, "Benchmark fixture " + index);
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(6, "");
+            definition.getConstructorArgumentValues().addIndexedArgumentValue(7, scope);
+            context.registerBeanDefinition("scenario" + index, definition);
+        }
+        context.refresh();
+
+        factoryBeans = new TestCaseFactoryBean[scenarioCount];
+        for (int index = 0; index < scenarioCount; index++) {
+            factoryBeans[index] = context.getBean("&scenario" + index, TestCaseFactoryBean.class);
+        }
+    }
+
+    @TearDown
+    public final void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public final void getObject(final Blackhole blackhole) {
+        for (final TestCaseFactoryBean factoryBean : factoryBeans) {
+            blackhole.consume(factoryBean.getObject());
+        }
+    }
+}
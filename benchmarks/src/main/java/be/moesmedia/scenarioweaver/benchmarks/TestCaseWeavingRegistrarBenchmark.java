@@ -0,0 +1,93 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks;
+
+import be.moesmedia.scenarioweaver.spring.EnableTestCaseWeaving;
+import be.moesmedia.scenarioweaver.spring.TestCaseIndexLoader;
+import be.moesmedia.scenarioweaver.spring.TestCaseWeavingRegistrar;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.type.AnnotationMetadata;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestCaseWeavingRegistrarBenchmark {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int scenarioCount;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private final TestCaseWeavingRegistrar registrar = new TestCaseWeavingRegistrar();
+    private final AnnotationMetadata importingMetadata = AnnotationMetadata.introspect(WeavingConfiguration.class);
+    private URLClassLoader scenarioClassLoader;
+    private ClassLoader previousClassLoader;
+
+    @Setup
+    public final void generateScenarios() {
+        scenarioClassLoader = GeneratedScenarioClasses.load(scenarioCount);
+        previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(scenarioClassLoader);
+    }
+
+    @Setup(Level.Invocation)
+    public final void resetDefinitionCache() {
+        if (!cached) {
+            TestCaseIndexLoader.clearCache();
+        }
+    }
+
+    @TearDown
+    public final void restoreClassLoader() throws IOException {
+        Thread.currentThread().setContextClassLoader(previousClassLoader);
+        scenarioClassLoader.close();
+    }
+
+    @Benchmark
+    public final int registerBeanDefinitions() {
+        final DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        registrar.registerBeanDefinitions(importingMetadata, registry);
+        if (registry.getBeanDefinitionCount() != scenarioCount) {
+            throw new IllegalStateException(
+                    "Expected " + scenarioCount + " scenarios but registered " + registry.getBeanDefinitionCount());
+        }
+        return registry.getBeanDefinitionCount();
+    }
+
+    @EnableTestCaseWeaving(basePackages = GeneratedScenarioClasses.PACKAGE)
+    static final class WeavingConfiguration {}
+}
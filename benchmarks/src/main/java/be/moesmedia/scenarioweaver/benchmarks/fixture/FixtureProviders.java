@@ -0,0 +1,40 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks.fixture;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import org.springframework.context.support.GenericApplicationContext;
+
+public final class FixtureProviders {
+    private FixtureProviders() {}
+
+    public static void register(final GenericApplicationContext context) {
+        context.registerBean("benchmarkStubsProvider", StubsProvider.class, () ->
+                (StubsProvider<String, TestCaseProperties, Void>) (payload, properties) -> null);
+        context.registerBean("benchmarkPropertiesProvider", PropertiesProvider.class, () ->
+                (PropertiesProvider<TestCaseProperties, Void>) ignored -> null);
+        context.registerBean("benchmarkPayloadProvider", PayloadProvider.class, () ->
+                (PayloadProvider<Void, String>) ignored -> "payload");
+        context.registerBean("benchmarkActionProvider", ActionProvider.class, () ->
+                (ActionProvider<String, TestCaseProperties, Integer>) (payload, properties) -> payload.length());
+    }
+}
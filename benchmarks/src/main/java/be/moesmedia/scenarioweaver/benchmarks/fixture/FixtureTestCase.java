@@ -0,0 +1,38 @@
+/*
+ * scenario-weaver-benchmarks - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.benchmarks.fixture;
+
+import be.moesmedia.scenarioweaver.spring.Assertions;
+import be.moesmedia.scenarioweaver.spring.ConfigureTestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import java.util.List;
+
+@ConfigureTestCase(
+        name = "fixture",
+        stubsProvider = "benchmarkStubsProvider",
+        propertiesProvider = "benchmarkPropertiesProvider",
+        payloadProvider = "benchmarkPayloadProvider",
+        actionProvider = "benchmarkActionProvider",
+        description = "Benchmark fixture")
+public final class FixtureTestCase {
+
+    @Assertions
+    public List<AssertionsProvider<Integer, String, Void>> assertions() {
+        return List.of((actual, payload, context) -> {});
+    }
+}
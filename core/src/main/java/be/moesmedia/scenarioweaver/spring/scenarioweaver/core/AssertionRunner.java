@@ -0,0 +1,91 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+final class AssertionRunner {
+    static final Executor DEFAULT_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("scenario-assertion-", 0).factory());
+
+    private AssertionRunner() {}
+
+    static <TPayload, TProps extends TestCaseProperties, TResult, TContext> void verify(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state, final Executor executor) {
+        final List<AssertionsProvider<TResult, TPayload, TContext>> assertions =
+                state.testCase().assertions();
+        if (assertions.stream().noneMatch(IndependentAssertion.class::isInstance)) {
+            assertions.forEach(assertion -> assertion.execute(state.result(), state.payload(), state.context()));
+            return;
+        }
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final List<CompletableFuture<Void>> independent = new ArrayList<>();
+        for (final AssertionsProvider<TResult, TPayload, TContext> assertion : assertions) {
+            if (assertion instanceof IndependentAssertion<?, ?, ?>) {
+                independent.add(CompletableFuture.runAsync(
+                                () -> assertion.execute(state.result(), state.payload(), state.context()), executor)
+                        .exceptionally(failure -> {
+                            failures.add(unwrap(failure));
+                            return null;
+                        }));
+            }
+        }
+        try {
+            for (final AssertionsProvider<TResult, TPayload, TContext> assertion : assertions) {
+                if (!(assertion instanceof IndependentAssertion<?, ?, ?>)) {
+                    assertion.execute(state.result(), state.payload(), state.context());
+                }
+            }
+        } catch (final RuntimeException | AssertionError failure) {
+            failures.add(failure);
+        }
+        CompletableFuture.allOf(independent.toArray(CompletableFuture[]::new)).join();
+        report(state.testCase(), List.copyOf(failures));
+    }
+
+    private static void report(final TestCase<?, ?, ?, ?> testCase, final List<Throwable> failures) {
+        if (failures.size() > 1) {
+            throw new MultipleScenarioFailuresError(
+                    "Scenario '" + testCase.name() + "' (" + testCase.description() + ") assertions", failures);
+        }
+        if (failures.size() == 1) {
+            final Throwable failure = failures.get(0);
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(failure);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        return failure instanceof CompletionException && Objects.nonNull(failure.getCause())
+                ? failure.getCause()
+                : failure;
+    }
+}
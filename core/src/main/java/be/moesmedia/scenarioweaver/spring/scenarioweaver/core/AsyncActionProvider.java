@@ -0,0 +1,41 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+@FunctionalInterface
+public interface AsyncActionProvider<TPayload, TProps, TResult> extends ActionProvider<TPayload, TProps, TResult> {
+    CompletionStage<TResult> executeAsync(TPayload payload, TProps props);
+
+    @Override
+    default TResult execute(final TPayload payload, final TProps props) {
+        try {
+            return executeAsync(payload, props).toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final Duration timeout;
+
+    private Deadline(final long expiresAtNanos, final Duration timeout) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.timeout = timeout;
+    }
+
+    public static Deadline after(final Duration timeout) {
+        if (Objects.isNull(timeout)) {
+            throw new IllegalArgumentException("Timeout is required to compute a deadline");
+        }
+        return new Deadline(System.nanoTime() + timeout.toNanos(), timeout);
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public boolean isBefore(final Deadline other) {
+        return expiresAtNanos - other.expiresAtNanos < 0;
+    }
+
+    void bindToCurrentThread() {
+        CURRENT.set(this);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class DeadlineRunner {
+    private static final System.Logger LOGGER = System.getLogger(DeadlineRunner.class.getName());
+    private static final Duration INTERRUPT_GRACE = Duration.ofMillis(500);
+
+    private DeadlineRunner() {}
+
+    static void run(
+            final ScenarioStage stage,
+            final ScenarioState<?, ?, ?, ?> state,
+            final String stageName,
+            final Deadline deadline,
+            final boolean scenarioLimit) {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // the worker matches the caller's kind, so a platform caller keeps per-thread allocation and CPU counters
+        final Thread.Builder builder = Thread.currentThread().isVirtual()
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon();
+        final Thread worker = builder.name("scenario-" + state.testCase().name() + "-" + stageName)
+                .unstarted(() -> {
+                    deadline.bindToCurrentThread();
+                    try {
+                        stage.apply(state);
+                    } catch (final Throwable t) {
+                        failure.set(t);
+                    }
+                });
+        worker.start();
+        try {
+            if (!worker.join(deadline.remaining())) {
+                final StackTraceElement[] stuckAt = worker.getStackTrace();
+                abandon(worker, state, stageName);
+                throw new ScenarioTimeoutError(
+                        state.testCase().name(), stageName, deadline.timeout(), scenarioLimit, stuckAt);
+            }
+        } catch (final InterruptedException e) {
+            worker.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + stageName + " to complete", e);
+        }
+        rethrow(failure.get());
+    }
+
+    /**
+     * Interrupts a stage that overran its deadline and gives it a moment to unwind, so it does not race the teardown
+     * of its scenario. A stage that ignores the interrupt is left behind; the closed state rejects its late writes.
+     */
+    private static void abandon(final Thread worker, final ScenarioState<?, ?, ?, ?> state, final String stageName)
+            throws InterruptedException {
+        worker.interrupt();
+        if (!worker.join(INTERRUPT_GRACE)) {
+            LOGGER.log(
+                    System.Logger.Level.WARNING,
+                    () -> "Stage " + stageName + " of scenario '"
+                            + state.testCase().name()
+                            + "' ignored its interrupt and is still running after the scenario timed out");
+        }
+    }
+
+    private static void rethrow(final Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new IllegalStateException(failure);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.List;
+
+public interface ExecutionListener {
+    ExecutionListener NONE = new ExecutionListener() {};
+
+    default void scenarioStarted(TestCase<?, ?, ?, ?> testCase) {}
+
+    default void scenarioStarted(ScenarioState<?, ?, ?, ?> state) {
+        scenarioStarted(state.testCase());
+    }
+
+    default void phaseStarted(ScenarioState<?, ?, ?, ?> state, ScenarioPhase phase) {}
+
+    default void phaseCompleted(TestCase<?, ?, ?, ?> testCase, ScenarioPhase phase, long durationNanos) {}
+
+    default void phaseCompleted(ScenarioState<?, ?, ?, ?> state, ScenarioPhase phase, long durationNanos) {
+        phaseCompleted(state.testCase(), phase, durationNanos);
+    }
+
+    /**
+     * Wraps the stage that runs a phase. The returned stage runs on the thread that executes the phase, which under a
+     * deadline is not the thread that calls {@link #phaseStarted} and {@link #phaseCompleted}.
+     */
+    default ScenarioStage around(ScenarioPhase phase, ScenarioStage stage) {
+        return stage;
+    }
+
+    default void scenarioCompleted(TestCase<?, ?, ?, ?> testCase, long durationNanos, Throwable failure) {}
+
+    default void scenarioCompleted(ScenarioState<?, ?, ?, ?> state, long durationNanos, Throwable failure) {
+        scenarioCompleted(state.testCase(), durationNanos, failure);
+    }
+
+    static ExecutionListener composite(final List<? extends ExecutionListener> listeners) {
+        final List<ExecutionListener> delegates = List.copyOf(listeners);
+        return new ExecutionListener() {
+            @Override
+            public void scenarioStarted(final TestCase<?, ?, ?, ?> testCase) {
+                delegates.forEach(listener -> listener.scenarioStarted(testCase));
+            }
+
+            @Override
+            public void scenarioStarted(final ScenarioState<?, ?, ?, ?> state) {
+                delegates.forEach(listener -> listener.scenarioStarted(state));
+            }
+
+            @Override
+            public void phaseStarted(final ScenarioState<?, ?, ?, ?> state, final ScenarioPhase phase) {
+                delegates.forEach(listener -> listener.phaseStarted(state, phase));
+            }
+
+            @Override
+            public void phaseCompleted(
+                    final TestCase<?, ?, ?, ?> testCase, final ScenarioPhase phase, final long durationNanos) {
+                delegates.forEach(listener -> listener.phaseCompleted(testCase, phase, durationNanos));
+            }
+
+            @Override
+            public void phaseCompleted(
+                    final ScenarioState<?, ?, ?, ?> state, final ScenarioPhase phase, final long durationNanos) {
+                delegates.forEach(listener -> listener.phaseCompleted(state, phase, durationNanos));
+            }
+
+            @Override
+            public ScenarioStage around(final ScenarioPhase phase, final ScenarioStage stage) {
+                ScenarioStage wrapped = stage;
+                for (final ExecutionListener listener : delegates) {
+                    wrapped = listener.around(phase, wrapped);
+                }
+                return wrapped;
+            }
+
+            @Override
+            public void scenarioCompleted(
+                    final TestCase<?, ?, ?, ?> testCase, final long durationNanos, final Throwable failure) {
+                delegates.forEach(listener -> listener.scenarioCompleted(testCase, durationNanos, failure));
+            }
+
+            @Override
+            public void scenarioCompleted(
+                    final ScenarioState<?, ?, ?, ?> state, final long durationNanos, final Throwable failure) {
+                delegates.forEach(listener -> listener.scenarioCompleted(state, durationNanos, failure));
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+@FunctionalInterface
+public interface GroupStubsProvider<TResources, TPayload, TAdditionalProperties, TContext>
+        extends StubsProvider<TPayload, TAdditionalProperties, TContext> {
+    TContext create(TResources resources, TPayload payload, TAdditionalProperties additionalProperties);
+
+    @Override
+    default TContext create(final TPayload payload, final TAdditionalProperties additionalProperties) {
+        throw new IllegalStateException(
+                "GroupStubsProvider needs the resources of its scenario group, run it through a TestExecutor");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.List;
+
+public final class MultipleScenarioFailuresError extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    public MultipleScenarioFailuresError(final String heading, final List<? extends Throwable> failures) {
+        super(buildMessage(heading, failures));
+        failures.forEach(this::addSuppressed);
+    }
+
+    public List<Throwable> getFailures() {
+        return List.of(getSuppressed());
+    }
+
+    private static String buildMessage(final String heading, final List<? extends Throwable> failures) {
+        final StringBuilder message = new StringBuilder(heading)
+                .append(" (")
+                .append(failures.size())
+                .append(failures.size() == 1 ? " failure)" : " failures)");
+        failures.forEach(
+                failure -> message.append(System.lineSeparator()).append("\t").append(failure.getMessage()));
+        return message.toString();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+public final class PayloadStreams {
+    private PayloadStreams() {}
+
+    public static <TPayload, TProps extends TestCaseProperties, TResult, TContext>
+            Stream<TestCase<TPayload, TProps, TResult, TContext>> expand(
+                    final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        if (Objects.isNull(testCase)) {
+            throw new IllegalArgumentException("TestCase is null, we cannot expand what is not there...");
+        }
+        if (!(testCase.payloadProvider() instanceof PayloadStreamProvider<TContext, TPayload> streamProvider)) {
+            return Stream.of(testCase);
+        }
+        final AtomicLong index = new AtomicLong();
+        return streamProvider.stream(null)
+                .sequential()
+                .map(payload -> new ExpandedTestCase<>(testCase, index.getAndIncrement(), payload));
+    }
+
+    public static boolean isDataDriven(final TestCase<?, ?, ?, ?> testCase) {
+        return Objects.nonNull(testCase) && testCase.payloadProvider() instanceof PayloadStreamProvider<?, ?>;
+    }
+
+    private static final class ExpandedTestCase<TPayload, TProps extends TestCaseProperties, TResult, TContext>
+            implements TestCase<TPayload, TProps, TResult, TContext> {
+        private final TestCase<TPayload, TProps, TResult, TContext> template;
+        private final long index;
+        private final TPayload payload;
+
+        private ExpandedTestCase(
+                final TestCase<TPayload, TProps, TResult, TContext> template,
+                final long index,
+                final TPayload payload) {
+            this.template = template;
+            this.index = index;
+            this.payload = payload;
+        }
+
+        @Override
+        public String description() {
+            return template.description() + " [" + index + "]";
+        }
+
+        @Override
+        public PayloadProvider<TContext, TPayload> payloadProvider() {
+            return input -> payload;
+        }
+
+        @Override
+        public PropertiesProvider<TProps, TContext> propertiesProvider() {
+            return template.propertiesProvider();
+        }
+
+        @Override
+        public StubsProvider<TPayload, TProps, TContext> stubs() {
+            return template.stubs();
+        }
+
+        @Override
+        public List<AssertionsProvider<TResult, TPayload, TContext>> assertions() {
+            return template.assertions();
+        }
+
+        @Override
+        public ActionProvider<TPayload, TProps, TResult> actionProvider() {
+            return template.actionProvider();
+        }
+
+        @Override
+        public String name() {
+            return template.name() + "[" + index + "]";
+        }
+
+        @Override
+        public String group() {
+            return template.group();
+        }
+
+        @Override
+        public ScenarioTimeouts timeouts() {
+            return template.timeouts();
+        }
+
+        @Override
+        public List<Class<?>> fingerprintClasses() {
+            return template.fingerprintClasses();
+        }
+
+        @Override
+        public List<String> dependsOn() {
+            return template.dependsOn();
+        }
+    }
+}
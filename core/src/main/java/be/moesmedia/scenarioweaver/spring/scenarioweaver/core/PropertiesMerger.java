@@ -0,0 +1,168 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+final class PropertiesMerger {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<PropertiesMerger> MERGERS = new ClassValue<>() {
+        @Override
+        protected PropertiesMerger computeValue(final Class<?> type) {
+            try {
+                return type.isRecord() ? forRecord(type) : forBean(type);
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot build a properties merger for " + type.getName(), e);
+            }
+        }
+    };
+
+    private final boolean recordType;
+    private final MethodHandle constructor;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+
+    private PropertiesMerger(
+            final boolean recordType,
+            final MethodHandle constructor,
+            final MethodHandle[] getters,
+            final MethodHandle[] setters) {
+        this.recordType = recordType;
+        this.constructor = constructor;
+        this.getters = getters;
+        this.setters = setters;
+    }
+
+    static PropertiesMerger forClass(final Class<?> type) {
+        return MERGERS.get(type);
+    }
+
+    Object merge(final Object original, final Object update) {
+        if (recordType) {
+            final Object[] values = new Object[getters.length];
+            for (int index = 0; index < getters.length; index++) {
+                values[index] = pick(getters[index], original, update);
+            }
+            try {
+                return (Object) constructor.invokeExact(values);
+            } catch (final Throwable e) {
+                throw propagate(e);
+            }
+        }
+        final Object merged = newInstance();
+        for (int index = 0; index < getters.length; index++) {
+            final Object value = pick(getters[index], original, update);
+            if (Objects.nonNull(value)) {
+                try {
+                    setters[index].invokeExact(merged, value);
+                } catch (final Throwable e) {
+                    throw propagate(e);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private Object newInstance() {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private static Object pick(final MethodHandle getter, final Object original, final Object update) {
+        try {
+            final Object originalValue = (Object) getter.invokeExact(original);
+            if (Objects.nonNull(originalValue) || Objects.isNull(update)) {
+                return originalValue;
+            }
+            return (Object) getter.invokeExact(update);
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable failure) {
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RuntimeException("Failed to merge properties", failure);
+    }
+
+    private static PropertiesMerger forBean(final Class<?> type) throws ReflectiveOperationException {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Constructor<?> noArgConstructor = type.getDeclaredConstructor();
+        noArgConstructor.setAccessible(true);
+
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            Arrays.stream(current.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic())
+                    .forEach(fields::add);
+        }
+        final MethodHandle[] getters = new MethodHandle[fields.size()];
+        final MethodHandle[] setters = new MethodHandle[fields.size()];
+        for (int index = 0; index < fields.size(); index++) {
+            final Field field = fields.get(index);
+            field.setAccessible(true);
+            getters[index] = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            setters[index] = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        }
+        return new PropertiesMerger(
+                false,
+                lookup.unreflectConstructor(noArgConstructor).asType(MethodType.methodType(Object.class)),
+                getters,
+                setters);
+    }
+
+    private static PropertiesMerger forRecord(final Class<?> type) throws ReflectiveOperationException {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final RecordComponent[] components = type.getRecordComponents();
+        final MethodHandle[] getters = new MethodHandle[components.length];
+        for (int index = 0; index < components.length; index++) {
+            components[index].getAccessor().setAccessible(true);
+            getters[index] = lookup.unreflect(components[index].getAccessor()).asType(GETTER_TYPE);
+        }
+        final Constructor<?> canonicalConstructor = type.getDeclaredConstructor(
+                Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+        canonicalConstructor.setAccessible(true);
+        return new PropertiesMerger(
+                true,
+                lookup.unreflectConstructor(canonicalConstructor)
+                        .asSpreader(Object[].class, components.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class)),
+                getters,
+                new MethodHandle[0]);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+public final class ScenarioPipeline {
+    public static final String DEADLINE_ATTRIBUTE = "scenarioweaver.deadline";
+
+    private static final ScenarioPipeline STANDARD = new ScenarioPipeline(List.of(
+            new Step(ScenarioPhase.PAYLOAD.name(), ScenarioPhase.PAYLOAD, ScenarioPipeline::createPayload),
+            new Step(
+                    ScenarioPhase.INITIAL_PROPERTIES.name(),
+                    ScenarioPhase.INITIAL_PROPERTIES,
+                    ScenarioPipeline::createInitialProperties),
+            new Step(ScenarioPhase.STUBS.name(), ScenarioPhase.STUBS, ScenarioPipeline::createStubs),
+            new Step(
+                    ScenarioPhase.PROPERTIES_MERGE.name(),
+                    ScenarioPhase.PROPERTIES_MERGE,
+                    ScenarioPipeline::mergeProperties),
+            new Step(ScenarioPhase.ACTION.name(), ScenarioPhase.ACTION, ScenarioPipeline::executeAction),
+            new Step(ScenarioPhase.ASSERTIONS.name(), ScenarioPhase.ASSERTIONS, ScenarioPipeline::verify)));
+
+    private final List<Step> steps;
+    private final ScenarioTimeouts timeouts;
+
+    private ScenarioPipeline(final List<Step> steps) {
+        this(steps, ScenarioTimeouts.NONE);
+    }
+
+    private ScenarioPipeline(final List<Step> steps, final ScenarioTimeouts timeouts) {
+        this.steps = List.copyOf(steps);
+        this.timeouts = timeouts;
+    }
+
+    public static ScenarioPipeline standard() {
+        return STANDARD;
+    }
+
+    public ScenarioPipeline replace(final ScenarioPhase phase, final ScenarioStage stage) {
+        final List<Step> replaced = new ArrayList<>(steps);
+        replaced.set(indexOf(phase), new Step(phase.name(), phase, requireStage(stage)));
+        return new ScenarioPipeline(replaced, timeouts);
+    }
+
+    public ScenarioPipeline withAssertionExecutor(final Executor executor) {
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("Executor is null, independent assertions need somewhere to run");
+        }
+        return replace(ScenarioPhase.ASSERTIONS, new ScenarioStage() {
+            @Override
+            public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void apply(
+                    final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+                AssertionRunner.verify(state, executor);
+            }
+        });
+    }
+
+    public ScenarioPipeline withTimeouts(final ScenarioTimeouts defaults) {
+        if (Objects.isNull(defaults)) {
+            throw new IllegalArgumentException("Timeouts are null, use ScenarioTimeouts.NONE instead");
+        }
+        return new ScenarioPipeline(steps, defaults);
+    }
+
+    public ScenarioPipeline insertBefore(final ScenarioPhase phase, final String name, final ScenarioStage stage) {
+        return insert(indexOf(phase), name, stage);
+    }
+
+    public ScenarioPipeline insertAfter(final ScenarioPhase phase, final String name, final ScenarioStage stage) {
+        return insert(indexOf(phase) + 1, name, stage);
+    }
+
+    public ScenarioPipeline through(final ScenarioPhase phase) {
+        return new ScenarioPipeline(steps.subList(0, indexOf(phase) + 1), timeouts);
+    }
+
+    public ScenarioPipeline preceding(final ScenarioPhase phase) {
+        return new ScenarioPipeline(steps.subList(0, indexOf(phase)), timeouts);
+    }
+
+    public ScenarioPipeline following(final ScenarioPhase phase) {
+        return new ScenarioPipeline(steps.subList(indexOf(phase) + 1, steps.size()), timeouts);
+    }
+
+    public ScenarioTimeouts timeoutsFor(final TestCase<?, ?, ?, ?> testCase) {
+        return Objects.requireNonNullElse(testCase.timeouts(), ScenarioTimeouts.NONE)
+                .orElse(timeouts);
+    }
+
+    public List<String> stageNames() {
+        return steps.stream().map(Step::name).toList();
+    }
+
+    public void run(final ScenarioState<?, ?, ?, ?> state, final ExecutionListener listener) {
+        if (Objects.isNull(state) || Objects.isNull(listener)) {
+            throw new IllegalArgumentException("A ScenarioState and an ExecutionListener are required to run");
+        }
+        final ScenarioTimeouts effective = timeoutsFor(state.testCase());
+        final Deadline scenarioDeadline = effective
+                .scenario()
+                .map(timeout -> scenarioDeadline(state, timeout))
+                .orElse(null);
+        for (final Step step : steps) {
+            if (Objects.isNull(step.phase())) {
+                apply(step, state, effective, scenarioDeadline);
+                continue;
+            }
+            listener.phaseStarted(state, step.phase());
+            final long start = System.nanoTime();
+            try {
+                apply(step.withStage(listener.around(step.phase(), step.stage())), state, effective, scenarioDeadline);
+            } finally {
+                listener.phaseCompleted(state, step.phase(), System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static Deadline scenarioDeadline(final ScenarioState<?, ?, ?, ?> state, final Duration timeout) {
+        if (state.attribute(DEADLINE_ATTRIBUTE) instanceof Deadline started) {
+            return started;
+        }
+        final Deadline deadline = Deadline.after(timeout);
+        state.attribute(DEADLINE_ATTRIBUTE, deadline);
+        return deadline;
+    }
+
+    private static void apply(
+            final Step step,
+            final ScenarioState<?, ?, ?, ?> state,
+            final ScenarioTimeouts effective,
+            final Deadline scenarioDeadline) {
+        final Deadline phaseDeadline = Optional.ofNullable(step.phase())
+                .flatMap(effective::phase)
+                .map(Deadline::after)
+                .orElse(null);
+        if (phaseDeadline == null && scenarioDeadline == null) {
+            step.stage().apply(state);
+            return;
+        }
+        final boolean scenarioLimit =
+                phaseDeadline == null || (scenarioDeadline != null && scenarioDeadline.isBefore(phaseDeadline));
+        DeadlineRunner.run(
+                step.stage(), state, step.name(), scenarioLimit ? scenarioDeadline : phaseDeadline, scenarioLimit);
+    }
+
+    private ScenarioPipeline insert(final int index, final String name, final ScenarioStage stage) {
+        if (Objects.isNull(name) || name.isBlank()) {
+            throw new IllegalArgumentException("A custom ScenarioStage needs a name");
+        }
+        final List<Step> inserted = new ArrayList<>(steps);
+        inserted.add(index, new Step(name, null, requireStage(stage)));
+        return new ScenarioPipeline(inserted, timeouts);
+    }
+
+    private int indexOf(final ScenarioPhase phase) {
+        for (int index = 0; index < steps.size(); index++) {
+            if (steps.get(index).phase() == phase) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Phase " + phase + " is not part of this pipeline");
+    }
+
+    private static ScenarioStage requireStage(final ScenarioStage stage) {
+        if (Objects.isNull(stage)) {
+            throw new IllegalArgumentException("ScenarioStage is null, there is nothing to run");
+        }
+        return stage;
+    }
+
+    private static <TPayload, TProps extends TestCaseProperties, TResult, TContext> void createPayload(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        state.setPayload(state.testCase().payloadProvider().create(null));
+    }
+
+    private static <TPayload, TProps extends TestCaseProperties, TResult, TContext> void createInitialProperties(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        final PropertiesProvider<TProps, TContext> provider = state.testCase().propertiesProvider();
+        state.setInitialProperties(Objects.isNull(provider) ? null : provider.create(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TPayload, TProps extends TestCaseProperties, TResult, TContext> void createStubs(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        final StubsProvider<TPayload, TProps, TContext> provider =
+                state.testCase().stubs();
+        if (Objects.isNull(provider)) {
+            return;
+        }
+        final TContext context = provider.create(state.payload(), state.initialProperties());
+        state.setContext(context);
+        if (provider instanceof SharedStubsProvider<?, ?, ?> shared) {
+            state.onClose(() -> ((SharedStubsProvider<TPayload, TProps, TContext>) shared).teardown(context));
+        }
+    }
+
+    private static <TPayload, TProps extends TestCaseProperties, TResult, TContext> void mergeProperties(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        final PropertiesProvider<TProps, TContext> provider = state.testCase().propertiesProvider();
+        final TProps contextual = Objects.isNull(provider) ? null : provider.create(state.context());
+        final TProps initial = state.initialProperties();
+        state.setProperties(Objects.isNull(initial) ? contextual : initial.merge(contextual));
+    }
+
+    private static <TPayload, TProps extends TestCaseProperties, TResult, TContext> void executeAction(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        state.setResult(state.testCase().actionProvider().execute(state.payload(), state.properties()));
+    }
+
+    private static void verify(final ScenarioState<?, ?, ?, ?> state) {
+        AssertionRunner.verify(state, AssertionRunner.DEFAULT_EXECUTOR);
+    }
+
+    private record Step(String name, ScenarioPhase phase, ScenarioStage stage) {
+        private Step withStage(final ScenarioStage wrapped) {
+            return wrapped == stage ? this : new Step(name, phase, requireStage(wrapped));
+        }
+    }
+}
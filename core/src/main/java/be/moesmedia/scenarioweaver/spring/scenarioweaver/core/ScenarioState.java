@@ -0,0 +1,162 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public final class ScenarioState<TPayload, TProps extends TestCaseProperties, TResult, TContext>
+        implements AutoCloseable {
+    private final TestCase<TPayload, TProps, TResult, TContext> testCase;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private final Deque<Runnable> closeActions = new ArrayDeque<>();
+
+    private TPayload payload;
+    private TProps initialProperties;
+    private TContext context;
+    private TProps properties;
+    private TResult result;
+    private volatile boolean closed;
+
+    public ScenarioState(final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        if (Objects.isNull(testCase)) {
+            throw new IllegalArgumentException("TestCase is null, we cannot execute what is not there...");
+        }
+        this.testCase = testCase;
+    }
+
+    public TestCase<TPayload, TProps, TResult, TContext> testCase() {
+        return testCase;
+    }
+
+    public TPayload payload() {
+        return payload;
+    }
+
+    public void setPayload(final TPayload payload) {
+        ensureOpen();
+        this.payload = payload;
+    }
+
+    public TProps initialProperties() {
+        return initialProperties;
+    }
+
+    public void setInitialProperties(final TProps initialProperties) {
+        ensureOpen();
+        this.initialProperties = initialProperties;
+    }
+
+    public TContext context() {
+        return context;
+    }
+
+    public void setContext(final TContext context) {
+        ensureOpen();
+        this.context = context;
+    }
+
+    public TProps properties() {
+        return properties;
+    }
+
+    public void setProperties(final TProps properties) {
+        ensureOpen();
+        this.properties = properties;
+    }
+
+    public TResult result() {
+        return result;
+    }
+
+    public void setResult(final TResult result) {
+        ensureOpen();
+        this.result = result;
+    }
+
+    public Object attribute(final String name) {
+        return attributes.get(name);
+    }
+
+    public void attribute(final String name, final Object value) {
+        ensureOpen();
+        attributes.put(name, value);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Registers an action to run when the scenario closes. Once closed, the action runs right away, so a lease taken
+     * by a stage that outlived its deadline is still released.
+     */
+    public void onClose(final Runnable action) {
+        synchronized (closeActions) {
+            if (!closed) {
+                closeActions.push(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * Runs every close action, latest first. A failing action does not stop the others; later failures are attached
+     * to the first one as suppressed exceptions.
+     */
+    @Override
+    public void close() {
+        final List<Runnable> actions;
+        synchronized (closeActions) {
+            closed = true;
+            actions = new ArrayList<>(closeActions);
+            closeActions.clear();
+        }
+        Throwable failure = null;
+        for (final Runnable action : actions) {
+            try {
+                action.run();
+            } catch (final RuntimeException | Error e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Scenario '" + testCase.name()
+                    + "' is already closed, late writes from a timed out stage are" + " rejected");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.time.Duration;
+
+public final class ScenarioTimeoutError extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    private final String scenario;
+    private final String stage;
+    private final transient Duration timeout;
+
+    public ScenarioTimeoutError(
+            final String scenario,
+            final String stage,
+            final Duration timeout,
+            final boolean scenarioLimit,
+            final StackTraceElement[] stuckAt) {
+        super("Scenario '" + scenario + "' timed out in " + stage + " after " + timeout.toMillis() + " ms ("
+                + (scenarioLimit ? "scenario" : "phase") + " timeout)");
+        this.scenario = scenario;
+        this.stage = stage;
+        this.timeout = timeout;
+        if (stuckAt != null && stuckAt.length > 0) {
+            final Throwable stuck = new Throwable(stage + " was still running at");
+            stuck.setStackTrace(stuckAt);
+            initCause(stuck);
+        }
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+public final class ScenarioTimeouts {
+    public static final ScenarioTimeouts NONE = new ScenarioTimeouts(null, Map.of());
+
+    private static final String SCENARIO_KEY = "SCENARIO";
+
+    private final Duration scenario;
+    private final Map<ScenarioPhase, Duration> phases;
+
+    private ScenarioTimeouts(final Duration scenario, final Map<ScenarioPhase, Duration> phases) {
+        this.scenario = scenario;
+        this.phases = phases.isEmpty() ? Map.of() : new EnumMap<>(phases);
+    }
+
+    public static ScenarioTimeouts of(final Duration scenario) {
+        return new ScenarioTimeouts(requirePositive(scenario, SCENARIO_KEY), Map.of());
+    }
+
+    public static ScenarioTimeouts parse(final String spec) {
+        ScenarioTimeouts timeouts = NONE;
+        if (Objects.isNull(spec) || spec.isBlank()) {
+            return timeouts;
+        }
+        for (final String entry : spec.split(",")) {
+            final int separator = entry.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Timeout '" + entry + "' must look like PHASE=PT1S");
+            }
+            final String key = entry.substring(0, separator).trim();
+            final Duration timeout =
+                    parseDuration(entry.substring(separator + 1).trim());
+            timeouts = SCENARIO_KEY.equals(key)
+                    ? new ScenarioTimeouts(requirePositive(timeout, key), timeouts.phases)
+                    : timeouts.withPhase(ScenarioPhase.valueOf(key), timeout);
+        }
+        return timeouts;
+    }
+
+    public ScenarioTimeouts withPhase(final ScenarioPhase phase, final Duration timeout) {
+        if (Objects.isNull(phase)) {
+            throw new IllegalArgumentException("Phase is required for a phase timeout");
+        }
+        final Map<ScenarioPhase, Duration> updated = new EnumMap<>(ScenarioPhase.class);
+        updated.putAll(phases);
+        updated.put(phase, requirePositive(timeout, phase.name()));
+        return new ScenarioTimeouts(scenario, updated);
+    }
+
+    public Optional<Duration> scenario() {
+        return Optional.ofNullable(scenario);
+    }
+
+    public Optional<Duration> phase(final ScenarioPhase phase) {
+        return Optional.ofNullable(phases.get(phase));
+    }
+
+    public boolean isEmpty() {
+        return scenario == null && phases.isEmpty();
+    }
+
+    public ScenarioTimeouts orElse(final ScenarioTimeouts defaults) {
+        if (Objects.isNull(defaults) || defaults.isEmpty()) {
+            return this;
+        }
+        final Map<ScenarioPhase, Duration> merged = new EnumMap<>(ScenarioPhase.class);
+        merged.putAll(defaults.phases);
+        merged.putAll(phases);
+        return new ScenarioTimeouts(scenario != null ? scenario : defaults.scenario, merged);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ScenarioTimeouts that
+                && Objects.equals(scenario, that.scenario)
+                && phases.equals(that.phases);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(scenario) + phases.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner spec = new StringJoiner(",");
+        if (scenario != null) {
+            spec.add(SCENARIO_KEY + "=" + scenario);
+        }
+        phases.forEach((phase, timeout) -> spec.add(phase.name() + "=" + timeout));
+        return spec.toString();
+    }
+
+    private static Duration parseDuration(final String value) {
+        try {
+            return Duration.parse(value);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException("Timeout '" + value + "' is not an ISO-8601 duration", e);
+        }
+    }
+
+    private static Duration requirePositive(final Duration timeout, final String name) {
+        if (Objects.isNull(timeout) || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Timeout for " + name + " must be positive but was " + timeout);
+        }
+        return timeout;
+    }
+}
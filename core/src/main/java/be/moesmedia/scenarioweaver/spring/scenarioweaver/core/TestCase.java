@@ -31,4 +31,32 @@ public interface TestCase<TPayload, TProps extends TestCaseProperties, TResult,
     List<AssertionsProvider<TResult, TPayload, TContext>> assertions();
 
     ActionProvider<TPayload, TProps, TResult> actionProvider();
+
+    /**
+     * Identifies the scenario within a run. Lambdas and anonymous classes share a class name, so the default
+     * combines it with the description; override it when scenarios of one class share a description.
+     */
+    default String name() {
+        return getClass().getName() + "#" + description();
+    }
+
+    default String group() {
+        return "";
+    }
+
+    default ScenarioTimeouts timeouts() {
+        return ScenarioTimeouts.NONE;
+    }
+
+    default List<String> dependsOn() {
+        return List.of();
+    }
+
+    /**
+     * Classes whose bytecode identifies this scenario for incremental runs. The default is the scenario class only,
+     * so computing it never resolves lazy providers; override it to add provider classes declared elsewhere.
+     */
+    default List<Class<?>> fingerprintClasses() {
+        return List.of(getClass());
+    }
 }
@@ -17,34 +17,9 @@
  */
 package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
 
-import java.util.Arrays;
-
 public interface TestCaseProperties {
     @SuppressWarnings("unchecked")
     default <TPropertiesType extends TestCaseProperties> TPropertiesType merge(final TPropertiesType newProperties) {
-        try {
-            final Class<?> clazz = this.getClass();
-            final TPropertiesType mergedProperties =
-                    (TPropertiesType) clazz.getDeclaredConstructor().newInstance();
-
-            Arrays.stream(clazz.getDeclaredFields()).forEach(field -> {
-                try {
-                    field.setAccessible(true);
-                    final Object originalValue = field.get(this);
-                    final Object newValue = field.get(newProperties);
-                    if (originalValue != null) {
-                        field.set(mergedProperties, originalValue);
-                    } else if (newValue != null) {
-                        field.set(mergedProperties, newValue);
-                    }
-                } catch (final IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-
-            return mergedProperties;
-        } catch (final Exception e) {
-            throw new RuntimeException("Failed to merge properties", e);
-        }
+        return (TPropertiesType) PropertiesMerger.forClass(this.getClass()).merge(this, newProperties);
     }
 }
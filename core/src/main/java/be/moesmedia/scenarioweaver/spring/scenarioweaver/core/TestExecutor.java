@@ -17,8 +17,54 @@
  */
 package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
 @FunctionalInterface
 public interface TestExecutor {
     <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
             TestCase<TPayload, TProps, TResult, TContext> testCase);
+
+    /**
+     * Guards executors that key results, ordering or dependencies by {@link TestCase#name()}; plain sequential
+     * execution does not need unique names.
+     */
+    static void requireUniqueNames(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        final Set<String> names = new HashSet<>();
+        final Set<String> duplicates = new TreeSet<>();
+        testCases.stream().map(TestCase::name).filter(name -> !names.add(name)).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Scenario names must be unique within a run, " + duplicates + " used more than once");
+        }
+    }
+
+    default void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        testCases.forEach(this::execute);
+    }
+
+    default <TPayload, TProps extends TestCaseProperties, TResult, TContext> void executeEach(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        final List<Throwable> failures = new ArrayList<>();
+        final long[] executed = {0};
+        try (Stream<TestCase<TPayload, TProps, TResult, TContext>> scenarios = PayloadStreams.expand(testCase)) {
+            scenarios.forEach(scenario -> {
+                executed[0]++;
+                try {
+                    execute(scenario);
+                } catch (final RuntimeException | AssertionError failure) {
+                    failures.add(new AssertionError(
+                            "Scenario '" + scenario.name() + "' failed: " + failure.getMessage(), failure));
+                }
+            });
+        }
+        if (!failures.isEmpty()) {
+            throw new MultipleScenarioFailuresError(executed[0] + " payloads executed", failures);
+        }
+    }
 }
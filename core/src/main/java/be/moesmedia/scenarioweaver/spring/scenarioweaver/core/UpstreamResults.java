@@ -0,0 +1,71 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public final class UpstreamResults {
+    public static final UpstreamResults NONE = new UpstreamResults(Map.of());
+
+    private final Map<String, Object> results;
+
+    public UpstreamResults(final Map<String, ?> results) {
+        if (Objects.isNull(results)) {
+            throw new IllegalArgumentException("Upstream results are null, use UpstreamResults.NONE instead");
+        }
+        this.results = Collections.unmodifiableMap(new LinkedHashMap<>(results));
+    }
+
+    public Set<String> names() {
+        return results.keySet();
+    }
+
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+
+    public boolean contains(final String scenario) {
+        return results.containsKey(scenario);
+    }
+
+    public Object get(final String scenario) {
+        if (!results.containsKey(scenario)) {
+            throw new IllegalArgumentException(
+                    "No result recorded for upstream scenario '" + scenario + "', known scenarios are " + names());
+        }
+        return results.get(scenario);
+    }
+
+    public <T> T get(final String scenario, final Class<T> type) {
+        final Object result = get(scenario);
+        if (result != null && !type.isInstance(result)) {
+            throw new IllegalArgumentException("Result of upstream scenario '" + scenario + "' is a "
+                    + result.getClass().getName() + ", not a " + type.getName());
+        }
+        return type.cast(result);
+    }
+
+    @Override
+    public String toString() {
+        return "UpstreamResults" + names();
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.fixture;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadStreamProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public final class MappedFixture {
+    public static final String INDEX_SUFFIX = ".idx";
+
+    private static final System.Logger LOGGER = System.getLogger(MappedFixture.class.getName());
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final Map<Path, MappedFixture> SHARED = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final byte delimiter;
+    private final RecordIndex index;
+    private final long[] segmentFirstRecords;
+    private final long[] segmentOffsets;
+    private final MappedByteBuffer[] segments;
+
+    private MappedFixture(
+            final Path file,
+            final byte delimiter,
+            final RecordIndex index,
+            final FileChannel channel,
+            final long maxSegmentBytes)
+            throws IOException {
+        this.file = file;
+        this.delimiter = delimiter;
+        this.index = index;
+        final List<Long> firstRecords = new ArrayList<>();
+        final List<MappedByteBuffer> mapped = new ArrayList<>();
+        long record = 0;
+        while (record < index.recordCount()) {
+            final long offset = index.start(record);
+            final long last = index.lastRecordEndingBefore(record, offset + maxSegmentBytes);
+            if (index.end(last) - offset > maxSegmentBytes) {
+                throw new IllegalStateException("Record " + record + " of " + file + " exceeds the mappable size");
+            }
+            firstRecords.add(record);
+            mapped.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, index.end(last) - offset));
+            record = last + 1;
+        }
+        this.segmentFirstRecords =
+                firstRecords.stream().mapToLong(Long::longValue).toArray();
+        this.segmentOffsets = firstRecords.stream().mapToLong(index::start).toArray();
+        this.segments = mapped.toArray(MappedByteBuffer[]::new);
+    }
+
+    public static MappedFixture open(final Path file) {
+        return open(file, NEWLINE);
+    }
+
+    public static MappedFixture open(final Path file, final byte delimiter) {
+        return open(file, delimiter, MAX_SEGMENT_BYTES);
+    }
+
+    static MappedFixture open(final Path file, final byte delimiter, final long maxSegmentBytes) {
+        if (Objects.isNull(file)) {
+            throw new IllegalArgumentException("Fixture file is null, there is nothing to map");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final RecordIndex.FixtureStamp stamp = new RecordIndex.FixtureStamp(
+                    delimiter, channel.size(), Files.getLastModifiedTime(file).toMillis());
+            final Path indexFile = file.resolveSibling(file.getFileName() + INDEX_SUFFIX);
+            RecordIndex index = RecordIndex.load(indexFile, stamp);
+            if (Objects.isNull(index)) {
+                index = RecordIndex.scan(channel, delimiter);
+                storeIndex(index, indexFile, stamp);
+            }
+            return new MappedFixture(file, delimiter, index, channel, maxSegmentBytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to map fixture " + file, e);
+        }
+    }
+
+    public static MappedFixture shared(final Path file) {
+        return SHARED.computeIfAbsent(file.toAbsolutePath().normalize(), MappedFixture::open);
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public long size() {
+        return index.recordCount();
+    }
+
+    public ByteBuffer record(final long record) {
+        if (record < 0 || record >= size()) {
+            throw new IndexOutOfBoundsException("Record " + record + " is outside of " + file + " (" + size() + ")");
+        }
+        final int segment = segmentOf(record);
+        final ByteBuffer buffer = segments[segment];
+        final int start = (int) (index.start(record) - segmentOffsets[segment]);
+        int end = (int) (index.end(record) - segmentOffsets[segment]);
+        if (end > start && buffer.get(end - 1) == delimiter) {
+            end--;
+        }
+        if (delimiter == NEWLINE && end > start && buffer.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        return buffer.slice(start, end - start).asReadOnlyBuffer();
+    }
+
+    public CharSequence chars(final long record) {
+        return chars(record, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Views the record as characters without copying when every byte maps to one char in {@code charset}, and
+     * decodes it otherwise.
+     */
+    public CharSequence chars(final long record, final Charset charset) {
+        final ByteBuffer bytes = record(record);
+        if (StandardCharsets.ISO_8859_1.equals(charset) || (asciiCompatible(charset) && isAscii(bytes))) {
+            return new ByteCharSequence(bytes);
+        }
+        return charset.decode(bytes);
+    }
+
+    public String string(final long record, final Charset charset) {
+        return charset.decode(record(record)).toString();
+    }
+
+    public Stream<ByteBuffer> records() {
+        return LongStream.range(0, size()).mapToObj(this::record);
+    }
+
+    public <TInput, TPayload> PayloadProvider<TInput, TPayload> payload(
+            final long record, final Function<ByteBuffer, TPayload> parser) {
+        return input -> parser.apply(record(record));
+    }
+
+    public <TInput, TPayload> PayloadStreamProvider<TInput, TPayload> payloads(
+            final Function<ByteBuffer, TPayload> parser) {
+        return input -> records().map(parser);
+    }
+
+    int segmentCount() {
+        return segments.length;
+    }
+
+    private int segmentOf(final long record) {
+        int low = 0;
+        int high = segmentFirstRecords.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (segmentFirstRecords[middle] <= record) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean asciiCompatible(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    private static boolean isAscii(final ByteBuffer bytes) {
+        for (int position = bytes.position(); position < bytes.limit(); position++) {
+            if (bytes.get(position) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void storeIndex(
+            final RecordIndex index, final Path indexFile, final RecordIndex.FixtureStamp stamp) {
+        try {
+            index.write(indexFile, stamp);
+        } catch (final IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Unable to cache fixture index at " + indexFile, e);
+        }
+    }
+
+    private record ByteCharSequence(ByteBuffer bytes) implements CharSequence {
+        @Override
+        public int length() {
+            return bytes.remaining();
+        }
+
+        @Override
+        public char charAt(final int position) {
+            return (char) (bytes.get(bytes.position() + position) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return new ByteCharSequence(bytes.slice(bytes.position() + start, end - start));
+        }
+
+        @Override
+        public String toString() {
+            final byte[] copy = new byte[bytes.remaining()];
+            bytes.duplicate().get(copy);
+            return new String(copy, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
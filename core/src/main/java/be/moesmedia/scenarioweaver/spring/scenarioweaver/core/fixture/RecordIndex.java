@@ -0,0 +1,134 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.fixture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+final class RecordIndex {
+    private static final int MAGIC = 0x53574958;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+    private static final long SCAN_WINDOW = 64L * 1024 * 1024;
+
+    private final LongBuffer boundaries;
+
+    private RecordIndex(final LongBuffer boundaries) {
+        this.boundaries = boundaries;
+    }
+
+    static RecordIndex load(final Path indexFile, final FixtureStamp stamp) throws IOException {
+        if (!Files.isRegularFile(indexFile) || Files.size(indexFile) < HEADER_BYTES) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final boolean valid = mapped.getInt(0) == MAGIC
+                    && mapped.getInt(4) == VERSION
+                    && mapped.getInt(8) == stamp.delimiter()
+                    && mapped.getLong(16) == stamp.size()
+                    && mapped.getLong(24) == stamp.lastModified()
+                    && HEADER_BYTES + (mapped.getLong(32) + 1) * Long.BYTES == channel.size();
+            return valid ? new RecordIndex(mapped.position(HEADER_BYTES).slice().asLongBuffer()) : null;
+        }
+    }
+
+    static RecordIndex scan(final FileChannel channel, final byte delimiter) throws IOException {
+        final long size = channel.size();
+        long[] boundaries = new long[1024];
+        int count = 1;
+        for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW) {
+            final long windowSize = Math.min(SCAN_WINDOW, size - windowStart);
+            final MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+            for (int position = 0; position < windowSize; position++) {
+                if (window.get(position) == delimiter) {
+                    if (count == boundaries.length) {
+                        boundaries = Arrays.copyOf(boundaries, boundaries.length * 2);
+                    }
+                    boundaries[count++] = windowStart + position + 1;
+                }
+            }
+        }
+        if (boundaries[count - 1] != size) {
+            boundaries = count == boundaries.length ? Arrays.copyOf(boundaries, count + 1) : boundaries;
+            boundaries[count++] = size;
+        }
+        return new RecordIndex(LongBuffer.wrap(boundaries, 0, count).slice());
+    }
+
+    void write(final Path indexFile, final FixtureStamp stamp) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(stamp.delimiter())
+                .putInt(0)
+                .putLong(stamp.size())
+                .putLong(stamp.lastModified())
+                .putLong(recordCount())
+                .flip();
+        final ByteBuffer body = ByteBuffer.allocate(boundaries.remaining() * Long.BYTES);
+        body.asLongBuffer().put(boundaries.duplicate());
+        final Path temporary = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+        Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    long recordCount() {
+        return boundaries.remaining() - 1L;
+    }
+
+    long start(final long record) {
+        return boundaries.get((int) record);
+    }
+
+    long end(final long record) {
+        return boundaries.get((int) record + 1);
+    }
+
+    long lastRecordEndingBefore(final long fromRecord, final long limit) {
+        long low = fromRecord;
+        long high = recordCount() - 1;
+        while (low < high) {
+            final long middle = (low + high + 1) >>> 1;
+            if (end(middle) <= limit) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    record FixtureStamp(int delimiter, long size, long lastModified) {}
+}
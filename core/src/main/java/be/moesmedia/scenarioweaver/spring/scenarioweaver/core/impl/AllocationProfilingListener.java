@@ -0,0 +1,245 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioStage;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioState;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+import jdk.jfr.Event;
+
+public final class AllocationProfilingListener implements ExecutionListener {
+    private static final System.Logger LOGGER = System.getLogger(AllocationProfilingListener.class.getName());
+    private static final long UNAVAILABLE = -1;
+    private static final String SAMPLE_ATTRIBUTE = "scenarioweaver.profiling.";
+    private static final String SCENARIO_SAMPLE = SAMPLE_ATTRIBUTE + "scenario";
+    private static final String EVENT_ATTRIBUTE = SAMPLE_ATTRIBUTE + "event.";
+
+    private final ThreadMXBean threads;
+    private final Queue<PhaseAllocation> phases = new ConcurrentLinkedQueue<>();
+    private final Queue<ScenarioAllocation> scenarios = new ConcurrentLinkedQueue<>();
+
+    public AllocationProfilingListener() {
+        this.threads = ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+                        && bean.isThreadAllocatedMemorySupported()
+                ? bean
+                : null;
+        if (threads != null) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            if (threads.isCurrentThreadCpuTimeSupported()) {
+                threads.setThreadCpuTimeEnabled(true);
+            }
+        }
+    }
+
+    public boolean isSupported() {
+        return threads != null;
+    }
+
+    @Override
+    public void scenarioStarted(final ScenarioState<?, ?, ?, ?> state) {
+        final ScenarioCompletedEvent event = new ScenarioCompletedEvent();
+        event.begin();
+        state.attribute(SCENARIO_SAMPLE, new Totals(event));
+    }
+
+    @Override
+    public void phaseStarted(final ScenarioState<?, ?, ?, ?> state, final ScenarioPhase phase) {
+        final ScenarioPhaseEvent event = new ScenarioPhaseEvent();
+        event.begin();
+        state.attribute(EVENT_ATTRIBUTE + phase.name(), event);
+    }
+
+    /**
+     * Samples the thread that actually runs the stage, which differs from the listener's thread when the phase runs
+     * under a deadline. Virtual threads expose no per-thread counters on this JDK, so their phases are UNAVAILABLE.
+     */
+    @Override
+    public ScenarioStage around(final ScenarioPhase phase, final ScenarioStage stage) {
+        return new ScenarioStage() {
+            @Override
+            public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void apply(
+                    final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+                final long allocated = allocatedBytes();
+                final long cpuTime = cpuTime();
+                try {
+                    stage.apply(state);
+                } finally {
+                    final Measurement measurement =
+                            new Measurement(since(allocated, allocatedBytes()), since(cpuTime, cpuTime()));
+                    if (!state.isClosed()) {
+                        state.attribute(SAMPLE_ATTRIBUTE + phase.name(), measurement);
+                    }
+                }
+            }
+        };
+    }
+
+    @Override
+    public void phaseCompleted(
+            final ScenarioState<?, ?, ?, ?> state, final ScenarioPhase phase, final long durationNanos) {
+        final Measurement measurement = state.attribute(SAMPLE_ATTRIBUTE + phase.name()) instanceof Measurement sampled
+                ? sampled
+                : Measurement.NONE;
+        if (state.attribute(SCENARIO_SAMPLE) instanceof Totals totals) {
+            totals.add(measurement);
+        }
+        final TestCase<?, ?, ?, ?> testCase = state.testCase();
+        final PhaseAllocation allocation = new PhaseAllocation(
+                testCase.name(),
+                testCase.group(),
+                phase,
+                measurement.allocatedBytes(),
+                measurement.cpuTimeNanos(),
+                durationNanos);
+        phases.add(allocation);
+        if (state.attribute(EVENT_ATTRIBUTE + phase.name()) instanceof ScenarioPhaseEvent event
+                && event.shouldCommit()) {
+            event.setScenario(allocation.scenario());
+            event.setGroup(allocation.group());
+            event.setPhase(phase.name());
+            event.setAllocated(allocation.allocatedBytes());
+            event.setCpuTime(allocation.cpuTimeNanos());
+            event.commit();
+        }
+    }
+
+    @Override
+    public void scenarioCompleted(
+            final ScenarioState<?, ?, ?, ?> state, final long durationNanos, final Throwable failure) {
+        if (!(state.attribute(SCENARIO_SAMPLE) instanceof Totals totals)) {
+            return;
+        }
+        final TestCase<?, ?, ?, ?> testCase = state.testCase();
+        final ScenarioAllocation allocation = new ScenarioAllocation(
+                testCase.name(),
+                testCase.group(),
+                totals.allocatedBytes(),
+                totals.cpuTimeNanos(),
+                durationNanos,
+                failure == null);
+        scenarios.add(allocation);
+        if (totals.event() instanceof ScenarioCompletedEvent event && event.shouldCommit()) {
+            event.setScenario(allocation.scenario());
+            event.setGroup(allocation.group());
+            event.setAllocated(allocation.allocatedBytes());
+            event.setCpuTime(allocation.cpuTimeNanos());
+            event.setPassed(allocation.passed());
+            event.commit();
+        }
+        LOGGER.log(
+                System.Logger.Level.DEBUG,
+                () -> "Scenario '" + allocation.scenario() + "' allocated " + allocation.allocatedBytes()
+                        + " bytes using " + allocation.cpuTimeNanos() + " ns CPU time");
+    }
+
+    public List<PhaseAllocation> phases() {
+        return List.copyOf(phases);
+    }
+
+    public List<PhaseAllocation> phases(final String scenario) {
+        return phases.stream()
+                .filter(allocation -> allocation.scenario().equals(scenario))
+                .toList();
+    }
+
+    public List<ScenarioAllocation> scenarios() {
+        return List.copyOf(scenarios);
+    }
+
+    public Map<ScenarioPhase, LongSummaryStatistics> summary() {
+        return summary(allocation -> true);
+    }
+
+    public Map<ScenarioPhase, LongSummaryStatistics> summary(final Predicate<PhaseAllocation> filter) {
+        final Map<ScenarioPhase, LongSummaryStatistics> summary = new EnumMap<>(ScenarioPhase.class);
+        phases.stream()
+                .filter(allocation -> allocation.allocatedBytes() != UNAVAILABLE)
+                .filter(filter)
+                .forEach(allocation -> summary.computeIfAbsent(allocation.phase(), phase -> new LongSummaryStatistics())
+                        .accept(allocation.allocatedBytes()));
+        return summary;
+    }
+
+    public void clear() {
+        phases.clear();
+        scenarios.clear();
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? UNAVAILABLE : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private long cpuTime() {
+        return threads == null || !threads.isThreadCpuTimeEnabled() ? UNAVAILABLE : threads.getCurrentThreadCpuTime();
+    }
+
+    private static long since(final long start, final long current) {
+        return start < 0 || current < 0 ? UNAVAILABLE : current - start;
+    }
+
+    private record Measurement(long allocatedBytes, long cpuTimeNanos) {
+        private static final Measurement NONE = new Measurement(UNAVAILABLE, UNAVAILABLE);
+    }
+
+    /**
+     * Sums the phases of one scenario; a single unmeasured phase makes the scenario total UNAVAILABLE rather than
+     * silently low.
+     */
+    private static final class Totals {
+        private final Event event;
+        private long allocatedBytes;
+        private long cpuTimeNanos;
+
+        private Totals(final Event event) {
+            this.event = event;
+        }
+
+        private synchronized void add(final Measurement measurement) {
+            allocatedBytes = sum(allocatedBytes, measurement.allocatedBytes());
+            cpuTimeNanos = sum(cpuTimeNanos, measurement.cpuTimeNanos());
+        }
+
+        private static long sum(final long total, final long value) {
+            return total < 0 || value < 0 ? UNAVAILABLE : total + value;
+        }
+
+        private Event event() {
+            return event;
+        }
+
+        private synchronized long allocatedBytes() {
+            return allocatedBytes;
+        }
+
+        private synchronized long cpuTimeNanos() {
+            return cpuTimeNanos;
+        }
+    }
+}
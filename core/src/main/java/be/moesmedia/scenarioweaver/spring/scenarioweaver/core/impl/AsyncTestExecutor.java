@@ -0,0 +1,296 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AsyncActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.Deadline;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.MultipleScenarioFailuresError;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPipeline;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioState;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeoutError;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public final class AsyncTestExecutor implements TestExecutor, AutoCloseable {
+    private static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+    private final ExecutionListener listener;
+    private final StubContextCache stubContexts;
+    private final ScenarioPipeline setup;
+    private final ScenarioPipeline verification;
+    private final ScenarioPipeline pipeline;
+    private final int maxInFlight;
+    private final ExecutorService completions;
+
+    public AsyncTestExecutor() {
+        this(ExecutionListener.NONE, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    public AsyncTestExecutor(final ExecutionListener listener, final int maxInFlight) {
+        this(listener, new StubContextCache(), ScenarioPipeline.standard(), maxInFlight);
+    }
+
+    public AsyncTestExecutor(
+            final ExecutionListener listener,
+            final StubContextCache stubContexts,
+            final ScenarioPipeline pipeline,
+            final int maxInFlight) {
+        if (Objects.isNull(listener) || Objects.isNull(stubContexts) || Objects.isNull(pipeline)) {
+            throw new IllegalArgumentException("Listener, stub context cache and pipeline are required");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("At least one scenario must be allowed in flight");
+        }
+        final ScenarioPipeline withSharedStubs = pipeline.replace(ScenarioPhase.STUBS, stubContexts.stage());
+        this.listener = listener;
+        this.stubContexts = stubContexts;
+        this.setup = withSharedStubs.preceding(ScenarioPhase.ACTION);
+        this.verification = withSharedStubs.following(ScenarioPhase.ACTION);
+        this.maxInFlight = maxInFlight;
+        this.pipeline = pipeline;
+        this.completions = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("scenario-async-", 0).factory());
+    }
+
+    @Override
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        try {
+            executeAsync(testCase).join();
+        } catch (final CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot execute what is not there...");
+        }
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try (StubContextCache.Retention ignored =
+                stubContexts.retain(testCases.stream().map(TestCase::group).collect(Collectors.toSet()))) {
+            executeAllAsync(testCases, failures).join();
+        }
+        if (!failures.isEmpty()) {
+            throw new MultipleScenarioFailuresError(testCases.size() + " scenarios executed", List.copyOf(failures));
+        }
+    }
+
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> CompletableFuture<Void> executeAsync(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        if (Objects.isNull(testCase)) {
+            throw new IllegalArgumentException("TestCase is null, we cannot execute what is not there...");
+        }
+        final ScenarioState<TPayload, TProps, TResult, TContext> state = new ScenarioState<>(testCase);
+        listener.scenarioStarted(state);
+        final long start = System.nanoTime();
+        CompletableFuture<Void> scenario;
+        try {
+            setup.run(state, listener);
+            scenario = act(state)
+                    .thenAcceptAsync(
+                            result -> {
+                                state.setResult(result);
+                                verification.run(state, listener);
+                            },
+                            completions);
+        } catch (final Throwable failure) {
+            scenario = CompletableFuture.failedFuture(failure);
+        }
+        return scenario.whenCompleteAsync(
+                (ignored, failure) -> {
+                    try {
+                        state.close();
+                    } finally {
+                        listener.scenarioCompleted(state, System.nanoTime() - start, unwrap(failure));
+                    }
+                },
+                completions);
+    }
+
+    @Override
+    public void close() {
+        try {
+            completions.close();
+        } finally {
+            stubContexts.close();
+        }
+    }
+
+    private CompletableFuture<Void> executeAllAsync(
+            final Collection<? extends TestCase<?, ?, ?, ?>> testCases, final Queue<Throwable> failures) {
+        if (testCases.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final Launcher launcher = new Launcher(testCases.iterator(), testCases.size(), failures);
+        for (int lane = 0; lane < Math.min(maxInFlight, testCases.size()); lane++) {
+            launcher.launchNext();
+        }
+        return launcher.done;
+    }
+
+    private <TPayload, TProps extends TestCaseProperties, TResult, TContext> CompletableFuture<TResult> act(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        listener.phaseStarted(state, ScenarioPhase.ACTION);
+        final long start = System.nanoTime();
+        final ActionProvider<TPayload, TProps, TResult> action =
+                state.testCase().actionProvider();
+        CompletableFuture<TResult> result;
+        try {
+            result = action instanceof AsyncActionProvider<TPayload, TProps, TResult> async
+                    ? async.executeAsync(state.payload(), state.properties()).toCompletableFuture()
+                    : CompletableFuture.completedFuture(action.execute(state.payload(), state.properties()));
+        } catch (final Throwable failure) {
+            result = CompletableFuture.failedFuture(failure);
+        }
+        return withinDeadline(state, result)
+                .whenComplete((value, failure) ->
+                        listener.phaseCompleted(state, ScenarioPhase.ACTION, System.nanoTime() - start));
+    }
+
+    private <TResult> CompletableFuture<TResult> withinDeadline(
+            final ScenarioState<?, ?, ?, ?> state, final CompletableFuture<TResult> action) {
+        final Deadline phaseDeadline = pipeline.timeoutsFor(state.testCase())
+                .phase(ScenarioPhase.ACTION)
+                .map(Deadline::after)
+                .orElse(null);
+        final Deadline scenarioDeadline =
+                state.attribute(ScenarioPipeline.DEADLINE_ATTRIBUTE) instanceof Deadline started ? started : null;
+        if ((phaseDeadline == null && scenarioDeadline == null) || action.isDone()) {
+            return action;
+        }
+        final boolean scenarioLimit =
+                phaseDeadline == null || (scenarioDeadline != null && scenarioDeadline.isBefore(phaseDeadline));
+        final Deadline deadline = scenarioLimit ? scenarioDeadline : phaseDeadline;
+        // orTimeout cancels its timer once the copy completes; failures of the action itself arrive wrapped in a
+        // CompletionException, so a bare TimeoutException can only be the deadline firing.
+        return action.copy()
+                .orTimeout(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(failure -> {
+                    if (!(failure instanceof TimeoutException)) {
+                        return CompletableFuture.failedFuture(failure);
+                    }
+                    action.cancel(true);
+                    return CompletableFuture.failedFuture(new ScenarioTimeoutError(
+                            state.testCase().name(),
+                            ScenarioPhase.ACTION.name(),
+                            deadline.timeout(),
+                            scenarioLimit,
+                            new StackTraceElement[0]));
+                });
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        return failure instanceof CompletionException && Objects.nonNull(failure.getCause())
+                ? failure.getCause()
+                : failure;
+    }
+
+    private static RuntimeException propagate(final Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(failure);
+    }
+
+    private final class Launcher {
+        private final Iterator<? extends TestCase<?, ?, ?, ?>> pending;
+        private final AtomicInteger outstanding;
+        private final Queue<Throwable> failures;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Launcher(
+                final Iterator<? extends TestCase<?, ?, ?, ?>> pending,
+                final int outstanding,
+                final Queue<Throwable> failures) {
+            this.pending = pending;
+            this.outstanding = new AtomicInteger(outstanding);
+            this.failures = failures;
+        }
+
+        private void launchNext() {
+            TestCase<?, ?, ?, ?> next = poll();
+            while (next != null) {
+                final TestCase<?, ?, ?, ?> testCase = next;
+                final CompletableFuture<Void> scenario = start(testCase);
+                if (!scenario.isDone()) {
+                    scenario.whenComplete((ignored, failure) -> {
+                        if (completed(testCase, failure)) {
+                            launchNext();
+                        }
+                    });
+                    return;
+                }
+                next = completed(
+                                testCase,
+                                scenario.handle((ignored, failure) -> failure).join())
+                        ? poll()
+                        : null;
+            }
+        }
+
+        private CompletableFuture<Void> start(final TestCase<?, ?, ?, ?> testCase) {
+            try {
+                return executeAsync(testCase);
+            } catch (final Throwable failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+
+        private boolean completed(final TestCase<?, ?, ?, ?> testCase, final Throwable failure) {
+            if (Objects.nonNull(failure)) {
+                final Throwable cause = unwrap(failure);
+                failures.add(new AssertionError(
+                        "Scenario '" + testCase.name() + "' (" + testCase.description() + ") failed: "
+                                + cause.getMessage(),
+                        cause));
+            }
+            if (outstanding.decrementAndGet() == 0) {
+                done.complete(null);
+                return false;
+            }
+            return true;
+        }
+
+        private synchronized TestCase<?, ?, ?, ?> poll() {
+            return pending.hasNext() ? pending.next() : null;
+        }
+    }
+}
@@ -17,12 +17,72 @@
  */
 package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
 
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPipeline;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioState;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import java.util.Collection;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
-public final class DefaultTestExecutor implements TestExecutor {
+public final class DefaultTestExecutor implements TestExecutor, AutoCloseable {
+    private final ExecutionListener listener;
+    private final StubContextCache stubContexts;
+    private final ScenarioPipeline pipeline;
+
+    public DefaultTestExecutor() {
+        this(ExecutionListener.NONE);
+    }
+
+    public DefaultTestExecutor(final ExecutionListener listener) {
+        this(listener, new StubContextCache());
+    }
+
+    public DefaultTestExecutor(final ExecutionListener listener, final StubContextCache stubContexts) {
+        this(listener, stubContexts, ScenarioPipeline.standard());
+    }
+
+    public DefaultTestExecutor(
+            final ExecutionListener listener, final StubContextCache stubContexts, final ScenarioPipeline pipeline) {
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("ExecutionListener is null, use ExecutionListener.NONE instead");
+        }
+        if (Objects.isNull(stubContexts)) {
+            throw new IllegalArgumentException("StubContextCache is null, shared stubs need somewhere to live");
+        }
+        if (Objects.isNull(pipeline)) {
+            throw new IllegalArgumentException("ScenarioPipeline is null, use ScenarioPipeline.standard() instead");
+        }
+        this.listener = listener;
+        this.stubContexts = stubContexts;
+        this.pipeline = pipeline.replace(ScenarioPhase.STUBS, stubContexts.stage());
+    }
+
+    public StubContextCache stubContexts() {
+        return stubContexts;
+    }
+
+    public StubContextCache.Retention retainGroups(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        return stubContexts.retain(testCases.stream().map(TestCase::group).collect(Collectors.toSet()));
+    }
+
+    @Override
+    public void close() {
+        stubContexts.close();
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot execute what is not there...");
+        }
+        try (StubContextCache.Retention ignored = retainGroups(testCases)) {
+            testCases.forEach(this::execute);
+        }
+    }
 
     @Override
     public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
@@ -30,22 +90,17 @@ public final class DefaultTestExecutor implements TestExecutor {
         if (Objects.isNull(testCase)) {
             throw new IllegalArgumentException("TestCase is null, we cannot execute what is not there...");
         }
-        final TPayload payload = testCase.payloadProvider().create(null);
-        final TProps initialProps = Objects.isNull(testCase.propertiesProvider().create(null))
-                ? null
-                : testCase.propertiesProvider().create(null);
-
-        final TContext ctx =
-                Objects.isNull(testCase.stubs()) ? null : testCase.stubs().create(payload, initialProps);
-        final TProps propsWithCtx = Objects.isNull(initialProps)
-                ? testCase.propertiesProvider().create(ctx)
-                : initialProps.merge(
-                        Objects.isNull(testCase.propertiesProvider())
-                                ? null
-                                : testCase.propertiesProvider().create(ctx));
-
-        final TResult result = testCase.actionProvider().execute(payload, propsWithCtx);
-
-        testCase.assertions().forEach(assertion -> assertion.execute(result, payload, ctx));
+        final ScenarioState<TPayload, TProps, TResult, TContext> state = new ScenarioState<>(testCase);
+        listener.scenarioStarted(state);
+        final long start = System.nanoTime();
+        Throwable failure = null;
+        try (state) {
+            pipeline.run(state, listener);
+        } catch (final Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            listener.scenarioCompleted(state, System.nanoTime() - start, failure);
+        }
     }
 }
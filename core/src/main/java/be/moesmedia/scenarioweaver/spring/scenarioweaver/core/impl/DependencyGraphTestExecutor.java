@@ -0,0 +1,319 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AsyncActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.DependentPayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.MultipleScenarioFailuresError;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.UpstreamResults;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+public final class DependencyGraphTestExecutor implements TestExecutor, AutoCloseable {
+    private final TestExecutor delegate;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutorService;
+    private final ConcurrentMap<String, Optional<Object>> results = new ConcurrentHashMap<>();
+
+    public DependencyGraphTestExecutor() {
+        this(new DefaultTestExecutor(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public DependencyGraphTestExecutor(final TestExecutor delegate, final int parallelism) {
+        this(delegate, new ForkJoinPool(parallelism), true);
+    }
+
+    public DependencyGraphTestExecutor(final TestExecutor delegate, final ExecutorService executorService) {
+        this(delegate, executorService, false);
+    }
+
+    private DependencyGraphTestExecutor(
+            final TestExecutor delegate, final ExecutorService executorService, final boolean ownsExecutorService) {
+        if (Objects.isNull(delegate) || Objects.isNull(executorService)) {
+            throw new IllegalArgumentException("Delegate and executor service are required");
+        }
+        this.delegate = delegate;
+        this.executorService = executorService;
+        this.ownsExecutorService = ownsExecutorService;
+    }
+
+    public UpstreamResults results() {
+        final Map<String, Object> completed = new HashMap<>();
+        results.forEach((name, result) -> completed.put(name, result.orElse(null)));
+        return new UpstreamResults(completed);
+    }
+
+    @Override
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        if (Objects.isNull(testCase)) {
+            throw new IllegalArgumentException("TestCase is null, we cannot execute what is not there...");
+        }
+        final List<String> pending = testCase.dependsOn().stream()
+                .filter(upstream -> !results.containsKey(upstream))
+                .toList();
+        if (!pending.isEmpty()) {
+            throw new IllegalStateException("Scenario '" + testCase.name() + "' depends on " + pending
+                    + ", which did not complete yet, execute them together with executeAll");
+        }
+        run(testCase);
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot execute what is not there...");
+        }
+        TestExecutor.requireUniqueNames(testCases);
+        final List<TestCase<?, ?, ?, ?>> ordered = topologicalOrder(byName(testCases));
+        final Map<String, CompletableFuture<Void>> completions = new HashMap<>();
+        final Set<String> started = ConcurrentHashMap.newKeySet();
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        try (StubContextCache.Retention ignored = retainGroups(testCases)) {
+            for (final TestCase<?, ?, ?, ?> testCase : ordered) {
+                final CompletableFuture<?>[] upstream = testCase.dependsOn().stream()
+                        .map(completions::get)
+                        .filter(Objects::nonNull)
+                        .toArray(CompletableFuture[]::new);
+                completions.put(
+                        testCase.name(),
+                        CompletableFuture.allOf(upstream)
+                                .thenRunAsync(
+                                        () -> {
+                                            started.add(testCase.name());
+                                            runReporting(testCase, failures);
+                                        },
+                                        executorService));
+            }
+            CompletableFuture.allOf(completions.values().toArray(CompletableFuture[]::new))
+                    .exceptionally(failure -> null)
+                    .join();
+        }
+        if (!failures.isEmpty()) {
+            throw new MultipleScenarioFailuresError(heading(ordered, started), List.copyOf(failures));
+        }
+    }
+
+    /**
+     * Forgets the results of completed scenarios, so nothing outlives the executor, and releases an owned pool.
+     */
+    @Override
+    public void close() {
+        results.clear();
+        if (ownsExecutorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private static String heading(final List<TestCase<?, ?, ?, ?>> ordered, final Set<String> started) {
+        final List<String> skipped = ordered.stream()
+                .map(TestCase::name)
+                .filter(name -> !started.contains(name))
+                .toList();
+        final String executed = started.size() + " of " + ordered.size() + " scenarios executed";
+        return skipped.isEmpty() ? executed : executed + ", skipped " + skipped + " after an upstream failure";
+    }
+
+    private Map<String, TestCase<?, ?, ?, ?>> byName(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        final Map<String, TestCase<?, ?, ?, ?>> byName = new LinkedHashMap<>();
+        testCases.forEach(testCase -> byName.put(testCase.name(), testCase));
+        byName.values().forEach(testCase -> testCase.dependsOn().stream()
+                .filter(upstream -> !byName.containsKey(upstream) && !results.containsKey(upstream))
+                .findFirst()
+                .ifPresent(upstream -> {
+                    throw new IllegalArgumentException("Scenario '" + testCase.name() + "' depends on '" + upstream
+                            + "', which is neither part of this run nor completed before");
+                }));
+        return byName;
+    }
+
+    private static List<TestCase<?, ?, ?, ?>> topologicalOrder(final Map<String, TestCase<?, ?, ?, ?>> byName) {
+        final Map<String, Integer> pending = new HashMap<>();
+        final Map<String, List<String>> dependents = new HashMap<>();
+        byName.forEach((name, testCase) -> {
+            final List<String> upstream = testCase.dependsOn().stream()
+                    .filter(byName::containsKey)
+                    .distinct()
+                    .toList();
+            pending.put(name, upstream.size());
+            upstream.forEach(dependency -> dependents
+                    .computeIfAbsent(dependency, ignored -> new ArrayList<>())
+                    .add(name));
+        });
+        final Deque<String> ready = new ArrayDeque<>();
+        byName.keySet().stream().filter(name -> pending.get(name) == 0).forEach(ready::add);
+        final List<TestCase<?, ?, ?, ?>> ordered = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            final String name = ready.poll();
+            ordered.add(byName.get(name));
+            dependents.getOrDefault(name, List.of()).stream()
+                    .filter(dependent -> pending.merge(dependent, -1, Integer::sum) == 0)
+                    .forEach(ready::add);
+        }
+        if (ordered.size() < byName.size()) {
+            throw new IllegalArgumentException("Scenario dependencies contain a cycle between "
+                    + byName.keySet().stream()
+                            .filter(name -> pending.get(name) > 0)
+                            .toList());
+        }
+        return ordered;
+    }
+
+    private StubContextCache.Retention retainGroups(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (delegate instanceof DefaultTestExecutor defaultTestExecutor) {
+            return defaultTestExecutor.retainGroups(testCases);
+        }
+        return () -> {};
+    }
+
+    private void runReporting(final TestCase<?, ?, ?, ?> testCase, final Queue<Throwable> failures) {
+        try {
+            run(testCase);
+        } catch (final Throwable failure) {
+            failures.add(new AssertionError(
+                    "Scenario '" + testCase.name() + "' (" + testCase.description() + ") failed: "
+                            + failure.getMessage(),
+                    failure));
+            throw new CompletionException(failure);
+        }
+    }
+
+    private <TPayload, TProps extends TestCaseProperties, TResult, TContext> void run(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        final Map<String, Object> upstream = new HashMap<>();
+        testCase.dependsOn().stream()
+                .filter(results::containsKey)
+                .forEach(name -> upstream.put(name, results.get(name).orElse(null)));
+        final DependentTestCase<TPayload, TProps, TResult, TContext> dependent =
+                new DependentTestCase<>(testCase, new UpstreamResults(upstream));
+        delegate.execute(dependent);
+        if (dependent.executed) {
+            results.put(testCase.name(), Optional.ofNullable(dependent.result));
+        }
+    }
+
+    private static final class DependentTestCase<TPayload, TProps extends TestCaseProperties, TResult, TContext>
+            implements TestCase<TPayload, TProps, TResult, TContext> {
+        private final TestCase<TPayload, TProps, TResult, TContext> template;
+        private final UpstreamResults upstream;
+        private volatile boolean executed;
+        private volatile TResult result;
+
+        private DependentTestCase(
+                final TestCase<TPayload, TProps, TResult, TContext> template, final UpstreamResults upstream) {
+            this.template = template;
+            this.upstream = upstream;
+        }
+
+        @Override
+        public String description() {
+            return template.description();
+        }
+
+        @Override
+        public PayloadProvider<TContext, TPayload> payloadProvider() {
+            final PayloadProvider<TContext, TPayload> provider = template.payloadProvider();
+            if (provider instanceof DependentPayloadProvider<TContext, TPayload> dependent) {
+                return input -> dependent.create(upstream, input);
+            }
+            return provider;
+        }
+
+        @Override
+        public PropertiesProvider<TProps, TContext> propertiesProvider() {
+            return template.propertiesProvider();
+        }
+
+        @Override
+        public StubsProvider<TPayload, TProps, TContext> stubs() {
+            return template.stubs();
+        }
+
+        @Override
+        public List<AssertionsProvider<TResult, TPayload, TContext>> assertions() {
+            return template.assertions();
+        }
+
+        @Override
+        public ActionProvider<TPayload, TProps, TResult> actionProvider() {
+            final ActionProvider<TPayload, TProps, TResult> action = template.actionProvider();
+            if (action instanceof AsyncActionProvider<TPayload, TProps, TResult> async) {
+                return (AsyncActionProvider<TPayload, TProps, TResult>)
+                        (payload, props) -> async.executeAsync(payload, props).thenApply(this::record);
+            }
+            return (payload, props) -> record(action.execute(payload, props));
+        }
+
+        @Override
+        public String name() {
+            return template.name();
+        }
+
+        @Override
+        public String group() {
+            return template.group();
+        }
+
+        @Override
+        public ScenarioTimeouts timeouts() {
+            return template.timeouts();
+        }
+
+        @Override
+        public List<String> dependsOn() {
+            return template.dependsOn();
+        }
+
+        @Override
+        public List<Class<?>> fingerprintClasses() {
+            return template.fingerprintClasses();
+        }
+
+        private TResult record(final TResult actual) {
+            this.result = actual;
+            this.executed = true;
+            return actual;
+        }
+    }
+}
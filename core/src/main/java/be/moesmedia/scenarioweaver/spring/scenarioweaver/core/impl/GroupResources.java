@@ -0,0 +1,205 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioGroup;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class GroupResources implements AutoCloseable {
+    private final Map<String, ScenarioGroup<?>> groups;
+    private final Map<String, LazyGroup> openGroups = new ConcurrentHashMap<>();
+    private final Map<String, Integer> retainedGroups = new ConcurrentHashMap<>();
+
+    public GroupResources(final Collection<? extends ScenarioGroup<?>> groups) {
+        if (Objects.isNull(groups)) {
+            throw new IllegalArgumentException("Scenario groups are required, use an empty list when there are none");
+        }
+        final Map<String, ScenarioGroup<?>> byName = new HashMap<>();
+        groups.forEach(group -> {
+            if (Objects.isNull(group) || Objects.isNull(group.name())) {
+                throw new IllegalArgumentException("Scenario groups need a name");
+            }
+            if (byName.putIfAbsent(group.name(), group) != null) {
+                throw new IllegalArgumentException("Scenario group '" + group.name() + "' is declared more than once");
+            }
+        });
+        this.groups = Map.copyOf(byName);
+    }
+
+    public boolean isDeclared(final String group) {
+        return groups.containsKey(group);
+    }
+
+    public Optional<Object> resources(final String group) {
+        final ScenarioGroup<?> declared = groups.get(group);
+        if (declared == null) {
+            return Optional.empty();
+        }
+        final LazyGroup lazy = openGroups.computeIfAbsent(group, name -> new LazyGroup(declared));
+        try {
+            return Optional.ofNullable(lazy.open().resources());
+        } catch (final RuntimeException | Error e) {
+            openGroups.remove(group, lazy);
+            throw e;
+        }
+    }
+
+    public Map<String, Integer> concurrency() {
+        final Map<String, Integer> limits = new HashMap<>();
+        groups.values().stream()
+                .filter(group -> group.concurrency() > 0)
+                .forEach(group -> limits.put(group.name(), group.concurrency()));
+        return Map.copyOf(limits);
+    }
+
+    public StubContextCache.Retention retain(final Collection<String> names) {
+        final List<String> retained =
+                names.stream().filter(this::isDeclared).distinct().toList();
+        retained.forEach(group -> retainedGroups.merge(group, 1, Integer::sum));
+        return () -> retained.forEach(this::releaseGroup);
+    }
+
+    @Override
+    public void close() {
+        final List<RuntimeException> failures = new ArrayList<>();
+        List.copyOf(openGroups.keySet()).forEach(group -> {
+            try {
+                closeGroup(group);
+            } catch (final RuntimeException e) {
+                failures.add(e);
+            }
+        });
+        if (!failures.isEmpty()) {
+            final RuntimeException failure = failures.get(0);
+            failures.stream().skip(1).forEach(failure::addSuppressed);
+            throw failure;
+        }
+    }
+
+    /**
+     * Closes the group inside the same map operation that drops its last retention, so a concurrent
+     * {@link #retain} of that group waits for the teardown instead of reusing the group while it is being closed.
+     */
+    private void releaseGroup(final String group) {
+        final List<Throwable> failures = new ArrayList<>(1);
+        retainedGroups.computeIfPresent(group, (name, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            try {
+                closeGroup(name);
+            } catch (final RuntimeException | Error e) {
+                failures.add(e);
+            }
+            return null;
+        });
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.get(0) instanceof Error error) {
+            throw error;
+        }
+        throw (RuntimeException) failures.get(0);
+    }
+
+    private void closeGroup(final String group) {
+        final LazyGroup lazy = openGroups.remove(group);
+        if (lazy != null) {
+            lazy.close();
+        }
+    }
+
+    /**
+     * Opens its group on first use. Only the cheap holder is created inside {@code computeIfAbsent}; the group's
+     * {@code createResources} and {@code beforeGroup} run outside the map operation, once, under the holder's lock.
+     */
+    private static final class LazyGroup {
+        private final ScenarioGroup<?> group;
+        private OpenGroup open;
+        private boolean closed;
+
+        private LazyGroup(final ScenarioGroup<?> group) {
+            this.group = group;
+        }
+
+        private synchronized OpenGroup open() {
+            if (closed) {
+                throw new IllegalStateException("Scenario group '" + group.name() + "' has already been closed");
+            }
+            if (open == null) {
+                open = OpenGroup.open(group);
+            }
+            return open;
+        }
+
+        private synchronized void close() {
+            closed = true;
+            if (open != null) {
+                open.close();
+            }
+        }
+    }
+
+    private record OpenGroup(ScenarioGroup<?> group, Object resources) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static OpenGroup open(final ScenarioGroup<?> group) {
+            final Object resources = group.createResources();
+            try {
+                ((ScenarioGroup) group).beforeGroup(resources);
+            } catch (final RuntimeException | Error e) {
+                new OpenGroup(group, resources).release(e);
+                throw e;
+            }
+            return new OpenGroup(group, resources);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void close() {
+            try {
+                ((ScenarioGroup) group).afterGroup(resources);
+            } catch (final RuntimeException | Error e) {
+                release(e);
+                throw e;
+            }
+            release(null);
+        }
+
+        private void release(final Throwable pending) {
+            if (!(resources instanceof AutoCloseable closeable)) {
+                return;
+            }
+            try {
+                closeable.close();
+            } catch (final Exception e) {
+                if (pending != null) {
+                    pending.addSuppressed(e);
+                    return;
+                }
+                throw new IllegalStateException(
+                        "Failed to close resources of scenario group '" + group.name() + "'", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+public final class InMemoryExecutionListener implements ExecutionListener {
+    private final Queue<PhaseTiming> timings = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void phaseCompleted(
+            final TestCase<?, ?, ?, ?> testCase, final ScenarioPhase phase, final long durationNanos) {
+        timings.add(new PhaseTiming(testCase.name(), testCase.group(), phase, durationNanos));
+    }
+
+    public List<PhaseTiming> timings() {
+        return List.copyOf(timings);
+    }
+
+    public List<PhaseTiming> timings(final String scenario) {
+        return timings.stream()
+                .filter(timing -> timing.scenario().equals(scenario))
+                .toList();
+    }
+
+    public Map<ScenarioPhase, LongSummaryStatistics> summary() {
+        return summary(timing -> true);
+    }
+
+    public Map<ScenarioPhase, LongSummaryStatistics> summary(final Predicate<PhaseTiming> filter) {
+        final Map<ScenarioPhase, LongSummaryStatistics> summary = new EnumMap<>(ScenarioPhase.class);
+        timings.stream().filter(filter).forEach(timing -> summary.computeIfAbsent(
+                        timing.phase(), phase -> new LongSummaryStatistics())
+                .accept(timing.durationNanos()));
+        return summary;
+    }
+
+    public void clear() {
+        timings.clear();
+    }
+}
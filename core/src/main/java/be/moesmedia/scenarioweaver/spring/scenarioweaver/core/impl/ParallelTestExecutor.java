@@ -0,0 +1,199 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.MultipleScenarioFailuresError;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public final class ParallelTestExecutor implements TestExecutor, AutoCloseable {
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(30);
+
+    private final TestExecutor delegate;
+    private final ExecutorService executorService;
+    private final boolean ownsDelegate;
+    private final boolean ownsExecutorService;
+    private final Map<String, Integer> groupConcurrency;
+
+    public ParallelTestExecutor() {
+        this(Runtime.getRuntime().availableProcessors(), Map.of());
+    }
+
+    public ParallelTestExecutor(final int parallelism, final Map<String, Integer> groupConcurrency) {
+        this(new DefaultTestExecutor(), new ForkJoinPool(parallelism), groupConcurrency, true, true);
+    }
+
+    public ParallelTestExecutor(final ExecutorService executorService, final Map<String, Integer> groupConcurrency) {
+        this(new DefaultTestExecutor(), executorService, groupConcurrency, true, false);
+    }
+
+    public ParallelTestExecutor(
+            final TestExecutor delegate,
+            final ExecutorService executorService,
+            final Map<String, Integer> groupConcurrency) {
+        this(delegate, executorService, groupConcurrency, false, false);
+    }
+
+    public ParallelTestExecutor(
+            final TestExecutor delegate, final int parallelism, final Map<String, Integer> groupConcurrency) {
+        this(delegate, new ForkJoinPool(parallelism), groupConcurrency, false, true);
+    }
+
+    ParallelTestExecutor(
+            final TestExecutor delegate,
+            final ExecutorService executorService,
+            final Map<String, Integer> groupConcurrency,
+            final boolean ownsDelegate,
+            final boolean ownsExecutorService) {
+        if (Objects.isNull(delegate) || Objects.isNull(executorService) || Objects.isNull(groupConcurrency)) {
+            throw new IllegalArgumentException("Delegate, executor service and group concurrency are required");
+        }
+        groupConcurrency.forEach((group, limit) -> {
+            if (Objects.isNull(limit) || limit < 1) {
+                throw new IllegalArgumentException("Concurrency for group '" + group + "' must be at least 1");
+            }
+        });
+        this.delegate = delegate;
+        this.executorService = executorService;
+        this.groupConcurrency = withDeclaredGroups(delegate, groupConcurrency);
+        this.ownsDelegate = ownsDelegate;
+        this.ownsExecutorService = ownsExecutorService;
+    }
+
+    @Override
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        delegate.execute(testCase);
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot execute what is not there...");
+        }
+        TestExecutor.requireUniqueNames(testCases);
+        final Map<String, Queue<TestCase<?, ?, ?, ?>>> scenariosByGroup = new LinkedHashMap<>();
+        testCases.forEach(testCase -> scenariosByGroup
+                .computeIfAbsent(testCase.group(), group -> new ConcurrentLinkedQueue<>())
+                .add(testCase));
+
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        final List<CompletableFuture<Void>> lanes = new ArrayList<>();
+        try (StubContextCache.Retention ignored = retainGroups(testCases)) {
+            scenariosByGroup.forEach((group, scenarios) -> {
+                final int laneCount =
+                        Math.min(scenarios.size(), groupConcurrency.getOrDefault(group, scenarios.size()));
+                for (int lane = 0; lane < laneCount; lane++) {
+                    lanes.add(CompletableFuture.runAsync(() -> drain(scenarios, failures), executorService));
+                }
+            });
+            CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new)).join();
+        }
+
+        if (!failures.isEmpty()) {
+            throw new MultipleScenarioFailuresError(testCases.size() + " scenarios executed", List.copyOf(failures));
+        }
+    }
+
+    /**
+     * Shuts down an owned pool and waits a bounded time for running scenarios before closing an owned delegate, so
+     * its stub contexts are not torn down underneath a scenario that is still executing.
+     */
+    @Override
+    public void close() {
+        try {
+            if (ownsExecutorService) {
+                awaitTermination();
+            }
+        } finally {
+            if (ownsDelegate && delegate instanceof AutoCloseable closeable) {
+                closeDelegate(closeable);
+            }
+        }
+    }
+
+    private void awaitTermination() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(TERMINATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void closeDelegate(final AutoCloseable delegate) {
+        try {
+            delegate.close();
+        } catch (final RuntimeException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new IllegalStateException("Failed to close delegate executor", e);
+        }
+    }
+
+    private static Map<String, Integer> withDeclaredGroups(
+            final TestExecutor delegate, final Map<String, Integer> groupConcurrency) {
+        if (!(delegate instanceof DefaultTestExecutor defaultTestExecutor)) {
+            return Map.copyOf(groupConcurrency);
+        }
+        final Map<String, Integer> merged = new HashMap<>(
+                defaultTestExecutor.stubContexts().groupResources().concurrency());
+        merged.putAll(groupConcurrency);
+        return Map.copyOf(merged);
+    }
+
+    private StubContextCache.Retention retainGroups(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (delegate instanceof DefaultTestExecutor defaultTestExecutor) {
+            return defaultTestExecutor.retainGroups(testCases);
+        }
+        return () -> {};
+    }
+
+    private void drain(final Queue<TestCase<?, ?, ?, ?>> scenarios, final Queue<Throwable> failures) {
+        TestCase<?, ?, ?, ?> testCase = scenarios.poll();
+        while (testCase != null) {
+            try {
+                delegate.execute(testCase);
+            } catch (final Throwable failure) {
+                failures.add(new AssertionError(
+                        "Scenario '" + testCase.name() + "' (" + testCase.description() + ") failed: "
+                                + failure.getMessage(),
+                        failure));
+            }
+            testCase = scenarios.poll();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongPredicate;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+public final class PinningMonitor implements AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(PinningMonitor.class.getName());
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 16;
+    private static final LongPredicate ALL_THREADS = threadId -> true;
+
+    private final RecordingStream recordingStream;
+    private final LongPredicate threads;
+    private final Queue<PinnedThreadEvent> events = new ConcurrentLinkedQueue<>();
+
+    public PinningMonitor(final Duration threshold) {
+        this(threshold, ALL_THREADS);
+    }
+
+    /**
+     * Pinning events are recorded JVM-wide; {@code threads} keeps only those raised by the given thread IDs, so
+     * monitors of concurrently running executors do not report each other's scenarios.
+     */
+    public PinningMonitor(final Duration threshold, final LongPredicate threads) {
+        if (Objects.isNull(threshold) || threshold.isNegative()) {
+            throw new IllegalArgumentException("Pinning threshold must be zero or positive");
+        }
+        if (Objects.isNull(threads)) {
+            throw new IllegalArgumentException("Thread filter is required, use the single argument constructor");
+        }
+        this.threads = threads;
+        this.recordingStream = new RecordingStream();
+        this.recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        this.recordingStream.onEvent(PINNED_EVENT, this::record);
+        this.recordingStream.startAsync();
+    }
+
+    public List<PinnedThreadEvent> events() {
+        return List.copyOf(events);
+    }
+
+    @Override
+    public void close() {
+        recordingStream.close();
+    }
+
+    private void record(final RecordedEvent recordedEvent) {
+        final RecordedThread thread = recordedEvent.getThread();
+        if (threads != ALL_THREADS && (Objects.isNull(thread) || !threads.test(thread.getJavaThreadId()))) {
+            return;
+        }
+        final List<String> frames = Objects.isNull(recordedEvent.getStackTrace())
+                ? List.of()
+                : recordedEvent.getStackTrace().getFrames().stream()
+                        .limit(MAX_FRAMES)
+                        .map(PinningMonitor::describe)
+                        .toList();
+        final PinnedThreadEvent event = new PinnedThreadEvent(
+                Objects.isNull(thread) ? "unknown" : thread.getJavaName(),
+                recordedEvent.getStartTime(),
+                recordedEvent.getDuration(),
+                frames);
+        events.add(event);
+        LOGGER.log(
+                System.Logger.Level.WARNING,
+                "Virtual thread {0} pinned its carrier for {1} ms at {2}",
+                event.threadName(),
+                event.duration().toMillis(),
+                frames.stream()
+                        .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+                        .findFirst()
+                        .orElse("<no application frame>"));
+    }
+
+    private static String describe(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("be.moesmedia.scenarioweaver.ScenarioCompleted")
+@Label("Scenario Completed")
+@Category("Scenario Weaver")
+@StackTrace(false)
+@SuppressFBWarnings(
+        value = "URF_UNREAD_FIELD",
+        justification = "JFR serialises these fields when the event is committed")
+final class ScenarioCompletedEvent extends Event {
+    @Label("Scenario")
+    private String scenario;
+
+    @Label("Group")
+    private String group;
+
+    @Label("Allocated")
+    @DataAmount
+    private long allocated;
+
+    @Label("CPU Time")
+    @Timespan
+    private long cpuTime;
+
+    @Label("Passed")
+    private boolean passed;
+
+    void setScenario(final String scenario) {
+        this.scenario = scenario;
+    }
+
+    void setGroup(final String group) {
+        this.group = group;
+    }
+
+    void setAllocated(final long allocated) {
+        this.allocated = allocated;
+    }
+
+    void setCpuTime(final long cpuTime) {
+        this.cpuTime = cpuTime;
+    }
+
+    void setPassed(final boolean passed) {
+        this.passed = passed;
+    }
+}
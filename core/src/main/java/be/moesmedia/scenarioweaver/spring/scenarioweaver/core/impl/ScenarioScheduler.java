@@ -0,0 +1,184 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental.ScenarioResult;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental.ScenarioResultStore;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class ScenarioScheduler {
+    public static final String SHARD_INDEX_PROPERTY = "scenarioweaver.shard.index";
+    public static final String SHARD_COUNT_PROPERTY = "scenarioweaver.shard.count";
+    public static final String SHARD_DURATIONS_PROPERTY = "scenarioweaver.shard.durations";
+
+    private final Map<String, Long> durations;
+    private final long defaultDuration;
+    private final Map<Integer, Map<String, Integer>> assignments = new ConcurrentHashMap<>();
+
+    public ScenarioScheduler(final Map<String, Long> durations) {
+        if (Objects.isNull(durations)) {
+            throw new IllegalArgumentException("Durations are required, use an empty map when none are known");
+        }
+        this.durations = Map.copyOf(durations);
+        this.defaultDuration = Math.round(this.durations.values().stream()
+                .mapToLong(Long::longValue)
+                .average()
+                .orElse(1));
+    }
+
+    public static ScenarioScheduler fromStore(final ScenarioResultStore store) {
+        if (Objects.isNull(store)) {
+            throw new IllegalArgumentException("Result store is required");
+        }
+        return new ScenarioScheduler(store.results().stream()
+                .collect(Collectors.toMap(ScenarioResult::name, ScenarioResult::durationNanos)));
+    }
+
+    public static ScenarioScheduler shared() {
+        return Shared.INSTANCE;
+    }
+
+    public long estimate(final String name) {
+        return durations.getOrDefault(name, defaultDuration);
+    }
+
+    public <T extends TestCase<?, ?, ?, ?>> List<T> order(final Collection<T> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot schedule what is not there...");
+        }
+        final List<T> ordered = new ArrayList<>(testCases);
+        ordered.sort(longestFirst(TestCase::name));
+        return ordered;
+    }
+
+    public <T extends TestCase<?, ?, ?, ?>> List<T> shard(final Collection<T> testCases, final Shard shard) {
+        if (Objects.isNull(shard)) {
+            throw new IllegalArgumentException("Shard is required");
+        }
+        return order(testCases).stream()
+                .filter(testCase -> inShard(testCase.name(), shard))
+                .toList();
+    }
+
+    /**
+     * Scenarios with a recorded duration are split longest-processing-time first: longest first, ties broken by name,
+     * each one to the shard with the lightest total so far. Scenarios without a duration fall back to a hash of their
+     * name. Membership only depends on the durations, so JVMs reading the same durations file agree on the split.
+     */
+    public boolean inShard(final String name, final Shard shard) {
+        if (Objects.isNull(name) || Objects.isNull(shard)) {
+            throw new IllegalArgumentException("Scenario name and shard are required");
+        }
+        final Integer owner =
+                assignments.computeIfAbsent(shard.count(), this::partition).get(name);
+        final int index = owner != null ? owner : Math.floorMod(name.hashCode(), shard.count());
+        return index == shard.index();
+    }
+
+    private Map<String, Integer> partition(final int count) {
+        final List<String> names = new ArrayList<>(durations.keySet());
+        names.sort(longestFirst(Function.identity()));
+        final long[] loads = new long[count];
+        final Map<String, Integer> owners = new HashMap<>();
+        for (final String name : names) {
+            int lightest = 0;
+            for (int candidate = 1; candidate < count; candidate++) {
+                if (loads[candidate] < loads[lightest]) {
+                    lightest = candidate;
+                }
+            }
+            owners.put(name, lightest);
+            loads[lightest] += Math.max(1, estimate(name));
+        }
+        return Map.copyOf(owners);
+    }
+
+    private <T> Comparator<T> longestFirst(final Function<T, String> names) {
+        return Comparator.<T>comparingLong(item -> estimate(names.apply(item)))
+                .reversed()
+                .thenComparing(names);
+    }
+
+    public record Shard(int index, int count) {
+        public Shard {
+            if (count < 1) {
+                throw new IllegalArgumentException("Shard count must be at least 1 but was " + count);
+            }
+            if (index < 0 || index >= count) {
+                throw new IllegalArgumentException(
+                        "Shard index must be between 0 and " + (count - 1) + " but was " + index);
+            }
+        }
+
+        public static Optional<Shard> fromSystemProperties() {
+            final Optional<Integer> count = integerProperty(SHARD_COUNT_PROPERTY);
+            if (count.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new Shard(integerProperty(SHARD_INDEX_PROPERTY).orElse(0), count.get()));
+        }
+
+        private static Optional<Integer> integerProperty(final String name) {
+            return Optional.ofNullable(System.getProperty(name))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .map(value -> {
+                        try {
+                            return Integer.parseInt(value);
+                        } catch (final NumberFormatException e) {
+                            throw new IllegalArgumentException(name + " must be a number but was '" + value + "'", e);
+                        }
+                    });
+        }
+    }
+
+    private static final class Shared {
+        private static final ScenarioScheduler INSTANCE = create();
+
+        private Shared() {}
+
+        /**
+         * Shards read their durations from one committed file. Without it every shard would partition by its own
+         * local history, so sharded runs then split by name and only unsharded runs order by the local result store.
+         */
+        private static ScenarioScheduler create() {
+            final Optional<Path> durations = Optional.ofNullable(System.getProperty(SHARD_DURATIONS_PROPERTY))
+                    .map(String::trim)
+                    .filter(location -> !location.isEmpty())
+                    .map(Path::of);
+            if (durations.isPresent()) {
+                return fromStore(ScenarioResultStore.open(durations.get()));
+            }
+            return Shard.fromSystemProperties().isPresent()
+                    ? new ScenarioScheduler(Map.of())
+                    : fromStore(ScenarioResultStore.shared());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class ScheduledTestExecutor implements TestExecutor, AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(ScheduledTestExecutor.class.getName());
+
+    private final TestExecutor delegate;
+    private final ScenarioScheduler scheduler;
+    private final Optional<ScenarioScheduler.Shard> shard;
+
+    public ScheduledTestExecutor(final TestExecutor delegate, final ScenarioScheduler scheduler) {
+        this(delegate, scheduler, ScenarioScheduler.Shard.fromSystemProperties());
+    }
+
+    public ScheduledTestExecutor(
+            final TestExecutor delegate,
+            final ScenarioScheduler scheduler,
+            final Optional<ScenarioScheduler.Shard> shard) {
+        if (Objects.isNull(delegate) || Objects.isNull(scheduler) || Objects.isNull(shard)) {
+            throw new IllegalArgumentException("Delegate executor, scheduler and shard are required");
+        }
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.shard = shard;
+    }
+
+    @Override
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        if (Objects.isNull(testCase)) {
+            throw new IllegalArgumentException("TestCase is null, we cannot execute what is not there...");
+        }
+        if (shard.isPresent() && !scheduler.inShard(testCase.name(), shard.get())) {
+            LOGGER.log(
+                    System.Logger.Level.DEBUG,
+                    () -> "Skipping scenario '" + testCase.name() + "', it belongs to another shard");
+            return;
+        }
+        delegate.execute(testCase);
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot execute what is not there...");
+        }
+        TestExecutor.requireUniqueNames(testCases);
+        final List<TestCase<?, ?, ?, ?>> scenarios = List.copyOf(testCases);
+        final List<TestCase<?, ?, ?, ?>> scheduled =
+                shard.map(selected -> scheduler.shard(scenarios, selected)).orElseGet(() -> scheduler.order(scenarios));
+        if (!scheduled.isEmpty()) {
+            delegate.executeAll(scheduled);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.GroupStubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioGroup;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioStage;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioState;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.SharedStubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public final class StubContextCache implements AutoCloseable {
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Integer> retainedGroups = new ConcurrentHashMap<>();
+    private final GroupResources groupResources;
+
+    public StubContextCache() {
+        this(List.of());
+    }
+
+    public StubContextCache(final Collection<? extends ScenarioGroup<?>> groups) {
+        this.groupResources = new GroupResources(groups);
+    }
+
+    public <TPayload, TProps, TContext> Lease<TContext> acquire(
+            final String group,
+            final SharedStubsProvider<TPayload, TProps, TContext> provider,
+            final TPayload payload,
+            final TProps additionalProperties) {
+        return acquire(
+                group, provider, payload, additionalProperties, () -> provider.create(payload, additionalProperties));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TPayload, TProps, TContext> Lease<TContext> acquire(
+            final String group,
+            final SharedStubsProvider<TPayload, TProps, TContext> provider,
+            final TPayload payload,
+            final TProps additionalProperties,
+            final Supplier<TContext> factory) {
+        if (Objects.isNull(provider)) {
+            throw new IllegalArgumentException("SharedStubsProvider is null, there is nothing to share...");
+        }
+        final Key key =
+                new Key(Objects.requireNonNullElse(group, ""), provider, provider.key(payload, additionalProperties));
+        final Entry entry = entries.compute(key, (k, existing) -> {
+            final Entry acquired = existing != null ? existing : new Entry(provider);
+            acquired.references++;
+            return acquired;
+        });
+        try {
+            final TContext context = (TContext) entry.context(factory);
+            return new Lease<>(this, key, context);
+        } catch (final RuntimeException | Error e) {
+            release(key);
+            throw e;
+        }
+    }
+
+    public ScenarioStage stage() {
+        return this::createStubs;
+    }
+
+    public Retention retain(final Collection<String> groups) {
+        final List<String> retained = List.copyOf(groups);
+        final Retention resources = groupResources.retain(retained);
+        retained.forEach(group -> retainedGroups.merge(group, 1, Integer::sum));
+        return () -> {
+            try {
+                retained.forEach(this::releaseGroup);
+            } finally {
+                resources.close();
+            }
+        };
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public GroupResources groupResources() {
+        return groupResources;
+    }
+
+    @Override
+    public void close() {
+        groupResources.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TPayload, TProps extends TestCaseProperties, TResult, TContext> void createStubs(
+            final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        final StubsProvider<TPayload, TProps, TContext> provider =
+                state.testCase().stubs();
+        final String group = state.testCase().group();
+        if (Objects.isNull(provider)) {
+            groupResources.resources(group).ifPresent(groupContext -> state.setContext((TContext) groupContext));
+            return;
+        }
+        final Supplier<TContext> factory = contextFactory(
+                state, provider, () -> groupResources.resources(group).orElse(null));
+        if (provider instanceof SharedStubsProvider<TPayload, TProps, TContext> shared) {
+            final Lease<TContext> lease = acquire(group, shared, state.payload(), state.initialProperties(), factory);
+            state.onClose(lease::close);
+            state.setContext(lease.context());
+            return;
+        }
+        state.setContext(factory.get());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <TPayload, TProps, TContext> Supplier<TContext> contextFactory(
+            final ScenarioState<TPayload, ?, ?, TContext> state,
+            final StubsProvider<TPayload, TProps, TContext> provider,
+            final Supplier<Object> resources) {
+        final TProps properties = (TProps) state.initialProperties();
+        if (provider instanceof GroupStubsProvider groupProvider) {
+            return () -> (TContext) groupProvider.create(resources.get(), state.payload(), properties);
+        }
+        return () -> provider.create(state.payload(), properties);
+    }
+
+    private void release(final Key key) {
+        final List<Entry> evicted = new ArrayList<>(1);
+        entries.computeIfPresent(key, (k, entry) -> {
+            entry.references--;
+            return evictIfUnused(k, entry, evicted);
+        });
+        evicted.forEach(Entry::dispose);
+    }
+
+    private void releaseGroup(final String group) {
+        final Integer remaining = retainedGroups.computeIfPresent(group, (g, count) -> count > 1 ? count - 1 : null);
+        if (remaining != null) {
+            return;
+        }
+        final List<Key> keys = new ArrayList<>();
+        entries.keySet().stream().filter(key -> key.group().equals(group)).forEach(keys::add);
+        final List<Entry> evicted = new ArrayList<>();
+        keys.forEach(key -> entries.computeIfPresent(key, (k, entry) -> evictIfUnused(k, entry, evicted)));
+        evicted.forEach(Entry::dispose);
+    }
+
+    /**
+     * Decides inside a map operation whether an entry stays cached. Evicted entries are only collected here and
+     * disposed by the caller once the map operation has returned, so a slow teardown never blocks the bin.
+     */
+    private Entry evictIfUnused(final Key key, final Entry entry, final List<Entry> evicted) {
+        if (entry.references > 0 || retainedGroups.containsKey(key.group())) {
+            return entry;
+        }
+        evicted.add(entry);
+        return null;
+    }
+
+    public interface Retention extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static final class Lease<T> implements AutoCloseable {
+        private final StubContextCache cache;
+        private final Key key;
+        private final T context;
+        private boolean released;
+
+        private Lease(final StubContextCache cache, final Key key, final T context) {
+            this.cache = cache;
+            this.key = key;
+            this.context = context;
+        }
+
+        static <T> Lease<T> unshared(final T context) {
+            return new Lease<>(null, null, context);
+        }
+
+        public T context() {
+            return context;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released && cache != null) {
+                released = true;
+                cache.release(key);
+            }
+        }
+    }
+
+    private record Key(String group, SharedStubsProvider<?, ?, ?> provider, Object key) {
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Key that
+                    && group.equals(that.group)
+                    && provider == that.provider
+                    && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * group.hashCode() + System.identityHashCode(provider)) + Objects.hashCode(key);
+        }
+    }
+
+    private static final class Entry {
+        private final SharedStubsProvider<?, ?, ?> provider;
+        private int references;
+        private boolean created;
+        private Object context;
+
+        private Entry(final SharedStubsProvider<?, ?, ?> provider) {
+            this.provider = provider;
+        }
+
+        private synchronized Object context(final Supplier<?> factory) {
+            if (!created) {
+                context = factory.get();
+                created = true;
+            }
+            return context;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private synchronized void dispose() {
+            if (created) {
+                ((SharedStubsProvider) provider).teardown(context);
+            }
+        }
+    }
+}
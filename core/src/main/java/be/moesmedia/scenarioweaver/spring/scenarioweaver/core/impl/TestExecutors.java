@@ -0,0 +1,233 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.CloseableTestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionMode;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioExecution;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPipeline;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental.IncrementalTestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental.ScenarioResultStore;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class TestExecutors {
+    public static final String MODE_PROPERTY = "scenarioweaver.executor.mode";
+    public static final String INCREMENTAL_PROPERTY = "scenarioweaver.executor.incremental";
+    public static final String TIMEOUTS_PROPERTY = "scenarioweaver.executor.timeouts";
+    public static final String PROFILE_PROPERTY = "scenarioweaver.executor.profile";
+
+    private TestExecutors() {}
+
+    public static CloseableTestExecutor forTestClass(final Class<?> testClass) {
+        return assemble(execution(testClass), ExecutionListener.NONE, Optional.empty());
+    }
+
+    /**
+     * Selects an executor for the test class that reports to the given listener and shares the given stub contexts.
+     * The caller keeps ownership of the stub contexts, closing the returned executor leaves them open.
+     */
+    public static CloseableTestExecutor forTestClass(
+            final Class<?> testClass, final ExecutionListener listener, final StubContextCache stubContexts) {
+        return assemble(execution(testClass), requireListener(listener), Optional.of(requireStubs(stubContexts)));
+    }
+
+    public static CloseableTestExecutor fromSystemProperties(
+            final ExecutionListener listener, final StubContextCache stubContexts) {
+        return assemble(Optional.empty(), requireListener(listener), Optional.of(requireStubs(stubContexts)));
+    }
+
+    public static CloseableTestExecutor create(final ExecutionMode mode) {
+        if (Objects.isNull(mode)) {
+            throw new IllegalArgumentException("Execution mode is required");
+        }
+        final List<AutoCloseable> resources = new ArrayList<>();
+        return new ManagedTestExecutor(
+                build(mode, 0, true, ExecutionListener.NONE, Optional.empty(), resources), resources);
+    }
+
+    private static CloseableTestExecutor assemble(
+            final Optional<ScenarioExecution> execution,
+            final ExecutionListener listener,
+            final Optional<StubContextCache> sharedStubs) {
+        final ExecutionMode mode = modeFromSystemProperty()
+                .orElseGet(() -> execution.map(ScenarioExecution::mode).orElse(ExecutionMode.SERIAL));
+        final int parallelism = execution.map(ScenarioExecution::parallelism).orElse(0);
+        final boolean reportPinning =
+                execution.map(ScenarioExecution::reportPinning).orElse(true);
+        final boolean incremental = flag(
+                INCREMENTAL_PROPERTY,
+                execution.map(ScenarioExecution::incremental).orElse(false));
+        final ExecutionListener profiler = flag(
+                        PROFILE_PROPERTY,
+                        execution.map(ScenarioExecution::profileAllocations).orElse(false))
+                ? new AllocationProfilingListener()
+                : ExecutionListener.NONE;
+        final Optional<ScenarioScheduler.Shard> shard = ScenarioScheduler.Shard.fromSystemProperties();
+        final boolean scheduled = mode != ExecutionMode.SERIAL || shard.isPresent();
+        final List<AutoCloseable> resources = new ArrayList<>();
+        if (!incremental && !scheduled) {
+            final TestExecutor executor = build(
+                    mode,
+                    parallelism,
+                    reportPinning,
+                    ExecutionListener.composite(List.of(listener, profiler)),
+                    sharedStubs,
+                    resources);
+            return new ManagedTestExecutor(executor, resources);
+        }
+        final ScenarioResultStore store = ScenarioResultStore.shared();
+        resources.add(store::save);
+        final TestExecutor executor = build(
+                mode,
+                parallelism,
+                reportPinning,
+                ExecutionListener.composite(List.of(listener, store, profiler)),
+                sharedStubs,
+                resources);
+        final TestExecutor ordered =
+                scheduled ? new ScheduledTestExecutor(executor, ScenarioScheduler.shared(), shard) : executor;
+        return new ManagedTestExecutor(incremental ? new IncrementalTestExecutor(ordered, store) : ordered, resources);
+    }
+
+    private static TestExecutor build(
+            final ExecutionMode mode,
+            final int parallelism,
+            final boolean reportPinning,
+            final ExecutionListener listener,
+            final Optional<StubContextCache> sharedStubs,
+            final List<AutoCloseable> resources) {
+        final DefaultTestExecutor serial = sharedStubs
+                .map(stubContexts -> serial(listener, stubContexts))
+                .orElseGet(() -> owned(serial(listener, new StubContextCache()), resources));
+        final int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return switch (mode) {
+            case SERIAL -> serial;
+            case PARALLEL -> owned(new ParallelTestExecutor(serial, threads, Map.of()), resources);
+            case VIRTUAL_THREADS -> owned(new VirtualThreadTestExecutor(serial, Map.of(), reportPinning), resources);
+            case DEPENDENCY_GRAPH -> owned(new DependencyGraphTestExecutor(serial, threads), resources);
+        };
+    }
+
+    private static DefaultTestExecutor serial(final ExecutionListener listener, final StubContextCache stubContexts) {
+        return new DefaultTestExecutor(
+                listener,
+                stubContexts,
+                ScenarioPipeline.standard()
+                        .withTimeouts(ScenarioTimeouts.parse(System.getProperty(TIMEOUTS_PROPERTY))));
+    }
+
+    private static <T extends AutoCloseable> T owned(final T resource, final List<AutoCloseable> resources) {
+        resources.add(resource);
+        return resource;
+    }
+
+    private static Optional<ScenarioExecution> execution(final Class<?> testClass) {
+        if (Objects.isNull(testClass)) {
+            throw new IllegalArgumentException("Test class is required to select an executor");
+        }
+        return Optional.ofNullable(testClass.getAnnotation(ScenarioExecution.class));
+    }
+
+    private static ExecutionListener requireListener(final ExecutionListener listener) {
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("ExecutionListener is null, use ExecutionListener.NONE instead");
+        }
+        return listener;
+    }
+
+    private static StubContextCache requireStubs(final StubContextCache stubContexts) {
+        if (Objects.isNull(stubContexts)) {
+            throw new IllegalArgumentException("StubContextCache is null, shared stubs need somewhere to live");
+        }
+        return stubContexts;
+    }
+
+    private static boolean flag(final String property, final boolean fallback) {
+        return Optional.ofNullable(System.getProperty(property))
+                .map(value -> Boolean.parseBoolean(value.trim()))
+                .orElse(fallback);
+    }
+
+    private static Optional<ExecutionMode> modeFromSystemProperty() {
+        return Optional.ofNullable(System.getProperty(MODE_PROPERTY))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> {
+                    try {
+                        return ExecutionMode.valueOf(
+                                value.toUpperCase(Locale.ROOT).replace('-', '_'));
+                    } catch (final IllegalArgumentException e) {
+                        throw new IllegalArgumentException(
+                                "Unknown " + MODE_PROPERTY + " '" + value + "', expected one of serial, parallel,"
+                                        + " virtual-threads, dependency-graph",
+                                e);
+                    }
+                });
+    }
+
+    private static final class ManagedTestExecutor implements CloseableTestExecutor {
+        private final TestExecutor delegate;
+        private final List<AutoCloseable> resources;
+
+        private ManagedTestExecutor(final TestExecutor delegate, final List<AutoCloseable> resources) {
+            this.delegate = delegate;
+            this.resources = List.copyOf(resources);
+        }
+
+        @Override
+        public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+                final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+            delegate.execute(testCase);
+        }
+
+        @Override
+        public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+            delegate.executeAll(testCases);
+        }
+
+        @Override
+        public void close() {
+            IllegalStateException failure = null;
+            for (final AutoCloseable resource : resources.reversed()) {
+                try {
+                    resource.close();
+                } catch (final Exception e) {
+                    if (Objects.isNull(failure)) {
+                        failure = new IllegalStateException("Failed to release test executor resources", e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (Objects.nonNull(failure)) {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public final class VirtualThreadTestExecutor implements TestExecutor, AutoCloseable {
+    private static final Duration DEFAULT_PINNING_THRESHOLD = Duration.ofMillis(20);
+
+    private final TestExecutor delegate;
+    private final boolean ownsDelegate;
+    private final Set<Long> scenarioThreads = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executorService;
+    private final ParallelTestExecutor parallelExecutor;
+    private final PinningMonitor pinningMonitor;
+
+    public VirtualThreadTestExecutor() {
+        this(new DefaultTestExecutor(), Map.of(), true, true);
+    }
+
+    public VirtualThreadTestExecutor(
+            final TestExecutor delegate, final Map<String, Integer> groupConcurrency, final boolean reportPinning) {
+        this(delegate, groupConcurrency, reportPinning, false);
+    }
+
+    private VirtualThreadTestExecutor(
+            final TestExecutor delegate,
+            final Map<String, Integer> groupConcurrency,
+            final boolean reportPinning,
+            final boolean ownsDelegate) {
+        if (Objects.isNull(delegate)) {
+            throw new IllegalArgumentException("Delegate executor is required");
+        }
+        this.delegate = delegate;
+        this.ownsDelegate = ownsDelegate;
+        this.executorService = Executors.newThreadPerTaskExecutor(
+                tracked(Thread.ofVirtual().name("scenario-", 0).factory(), reportPinning));
+        this.parallelExecutor = new ParallelTestExecutor(delegate, executorService, groupConcurrency);
+        this.pinningMonitor =
+                reportPinning ? new PinningMonitor(DEFAULT_PINNING_THRESHOLD, scenarioThreads::contains) : null;
+    }
+
+    @Override
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        try {
+            executorService.submit(() -> delegate.execute(testCase)).get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Scenario failed on its virtual thread", e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for scenario to complete", e);
+        }
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        parallelExecutor.executeAll(testCases);
+    }
+
+    public List<PinnedThreadEvent> pinningEvents() {
+        return Objects.isNull(pinningMonitor) ? List.of() : pinningMonitor.events();
+    }
+
+    @Override
+    public void close() {
+        try {
+            executorService.close();
+            if (Objects.nonNull(pinningMonitor)) {
+                pinningMonitor.close();
+            }
+        } finally {
+            if (ownsDelegate && delegate instanceof DefaultTestExecutor defaultTestExecutor) {
+                defaultTestExecutor.close();
+            }
+        }
+    }
+
+    /**
+     * Remembers the IDs of the threads this executor starts so its pinning monitor can ignore other executors.
+     */
+    private ThreadFactory tracked(final ThreadFactory factory, final boolean track) {
+        if (!track) {
+            return factory;
+        }
+        return task -> {
+            final Thread thread = factory.newThread(task);
+            scenarioThreads.add(thread.threadId());
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+public final class IncrementalTestExecutor implements TestExecutor, AutoCloseable {
+    private static final System.Logger LOGGER = System.getLogger(IncrementalTestExecutor.class.getName());
+
+    private final TestExecutor delegate;
+    // the store stays shared with the listener chain; this executor only needs these three operations on it
+    private final Consumer<Collection<? extends TestCase<?, ?, ?, ?>>> register;
+    private final Predicate<TestCase<?, ?, ?, ?>> upToDate;
+    private final Runnable save;
+    private final LongAdder skipped = new LongAdder();
+
+    public IncrementalTestExecutor(final ScenarioResultStore store) {
+        this(new DefaultTestExecutor(store), store);
+    }
+
+    public IncrementalTestExecutor(final TestExecutor delegate, final ScenarioResultStore store) {
+        if (Objects.isNull(delegate) || Objects.isNull(store)) {
+            throw new IllegalArgumentException("Delegate executor and result store are required");
+        }
+        this.delegate = delegate;
+        this.register = store::register;
+        this.upToDate = store::isUpToDate;
+        this.save = store::save;
+    }
+
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    @Override
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        if (Objects.isNull(testCase)) {
+            throw new IllegalArgumentException("TestCase is null, we cannot execute what is not there...");
+        }
+        if (!skip(testCase)) {
+            delegate.execute(testCase);
+        }
+    }
+
+    @Override
+    public void executeAll(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are null, we cannot execute what is not there...");
+        }
+        TestExecutor.requireUniqueNames(testCases);
+        register.accept(testCases);
+        final List<? extends TestCase<?, ?, ?, ?>> affected =
+                testCases.stream().filter(testCase -> !skip(testCase)).toList();
+        if (!affected.isEmpty()) {
+            delegate.executeAll(affected);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            if (delegate instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } finally {
+            save.run();
+        }
+    }
+
+    private boolean skip(final TestCase<?, ?, ?, ?> testCase) {
+        if (!upToDate.test(testCase)) {
+            return false;
+        }
+        skipped.increment();
+        LOGGER.log(System.Logger.Level.DEBUG, () -> "Skipping unchanged scenario '" + testCase.name() + "'");
+        return true;
+    }
+}
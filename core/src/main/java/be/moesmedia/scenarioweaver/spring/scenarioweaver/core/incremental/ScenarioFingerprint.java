@@ -0,0 +1,155 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class ScenarioFingerprint {
+    private static final System.Logger LOGGER = System.getLogger(ScenarioFingerprint.class.getName());
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+    private static final String GENERATED_MARKER = "$$";
+
+    private static final ClassValue<Long> CLASS_HASHES = new ClassValue<>() {
+        @Override
+        protected Long computeValue(final Class<?> type) {
+            return hashOf(sourceOf(type));
+        }
+    };
+
+    private ScenarioFingerprint() {}
+
+    public static long of(final TestCase<?, ?, ?, ?> testCase) {
+        return of(testCase, upstream -> null);
+    }
+
+    /**
+     * Fingerprints a scenario from its name, the bytecode of its {@link TestCase#fingerprintClasses()} and the
+     * fingerprints of the scenarios it depends on, resolved by name through {@code scenarios}. An upstream scenario
+     * that cannot be resolved only contributes its name.
+     */
+    public static long of(
+            final TestCase<?, ?, ?, ?> testCase, final Function<String, ? extends TestCase<?, ?, ?, ?>> scenarios) {
+        if (Objects.isNull(testCase) || Objects.isNull(scenarios)) {
+            throw new IllegalArgumentException("TestCase is required to compute a fingerprint");
+        }
+        return withUpstream(testCase, scenarios, new HashSet<>());
+    }
+
+    public static long of(final Class<?> type) {
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException("Class is required to compute a fingerprint");
+        }
+        return CLASS_HASHES.get(type);
+    }
+
+    private static long withUpstream(
+            final TestCase<?, ?, ?, ?> testCase,
+            final Function<String, ? extends TestCase<?, ?, ?, ?>> scenarios,
+            final Set<String> visiting) {
+        long fingerprint = own(testCase);
+        if (!visiting.add(testCase.name())) {
+            return fingerprint;
+        }
+        for (final String upstream : Objects.requireNonNullElse(testCase.dependsOn(), List.<String>of())) {
+            final TestCase<?, ?, ?, ?> resolved = scenarios.apply(upstream);
+            fingerprint = mix(
+                    fingerprint, resolved == null ? upstream.hashCode() : withUpstream(resolved, scenarios, visiting));
+        }
+        visiting.remove(testCase.name());
+        return fingerprint;
+    }
+
+    private static long own(final TestCase<?, ?, ?, ?> testCase) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        testCase.fingerprintClasses().stream().filter(Objects::nonNull).forEach(type -> {
+            for (Class<?> current = type; current != null && !isPlatform(current); current = current.getSuperclass()) {
+                classes.add(current);
+            }
+        });
+        long fingerprint = testCase.name().hashCode();
+        for (final Class<?> type : classes) {
+            fingerprint = mix(fingerprint, CLASS_HASHES.get(type));
+        }
+        return fingerprint;
+    }
+
+    private static long mix(final long fingerprint, final long value) {
+        return (Long.rotateLeft(fingerprint, 17) ^ value) * MIX;
+    }
+
+    private static boolean isPlatform(final Class<?> type) {
+        final ClassLoader loader = type.getClassLoader();
+        return loader == null || loader == ClassLoader.getPlatformClassLoader();
+    }
+
+    private static Class<?> sourceOf(final Class<?> type) {
+        final String name = type.getName();
+        final int marker = name.indexOf(GENERATED_MARKER);
+        if (marker < 0) {
+            return type;
+        }
+        try {
+            return Class.forName(name.substring(0, marker), false, type.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            return type;
+        }
+    }
+
+    private static long hashOf(final Class<?> type) {
+        final MessageDigest digest = sha256();
+        digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        final String resource = type.getName().replace('.', '/') + ".class";
+        final ClassLoader loader =
+                Objects.requireNonNullElse(type.getClassLoader(), ClassLoader.getSystemClassLoader());
+        try (InputStream bytecode = loader.getResourceAsStream(resource)) {
+            if (bytecode != null) {
+                digest.update(bytecode.readAllBytes());
+            }
+        } catch (final IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Unable to read bytecode of " + type.getName(), e);
+        }
+        return toLong(digest.digest());
+    }
+
+    private static long toLong(final byte[] hash) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << Byte.SIZE) | (hash[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available on this JVM", e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ScenarioResultStore implements ExecutionListener, AutoCloseable {
+    public static final String LOCATION_PROPERTY = "scenarioweaver.results.file";
+    public static final Path DEFAULT_LOCATION = Path.of("target", "scenario-weaver", "scenario-results.bin");
+
+    private static final System.Logger LOGGER = System.getLogger(ScenarioResultStore.class.getName());
+    private static final int MAGIC = 0x53575253;
+    private static final int VERSION = 1;
+    private static final Object SAVE_LOCK = new Object();
+
+    private final Path file;
+    private final Map<String, ScenarioResult> results;
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+    private final Map<String, TestCase<?, ?, ?, ?>> scenarios = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private ScenarioResultStore(final Path file, final Map<String, ScenarioResult> results) {
+        this.file = file;
+        this.results = results;
+    }
+
+    public static ScenarioResultStore open(final Path file) {
+        if (Objects.isNull(file)) {
+            throw new IllegalArgumentException("Result store location is required");
+        }
+        return new ScenarioResultStore(file, read(file));
+    }
+
+    public static ScenarioResultStore shared() {
+        return Shared.INSTANCE;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public List<ScenarioResult> results() {
+        return List.copyOf(results.values());
+    }
+
+    public Optional<ScenarioResult> result(final String name) {
+        return Optional.ofNullable(results.get(name));
+    }
+
+    /**
+     * Makes the scenarios of a run resolvable by name, so a scenario's fingerprint covers the scenarios it depends on.
+     */
+    public void register(final Collection<? extends TestCase<?, ?, ?, ?>> testCases) {
+        if (Objects.isNull(testCases)) {
+            throw new IllegalArgumentException("TestCases are required");
+        }
+        testCases.forEach(testCase -> scenarios.put(testCase.name(), testCase));
+    }
+
+    public long fingerprint(final TestCase<?, ?, ?, ?> testCase) {
+        return ScenarioFingerprint.of(testCase, scenarios::get);
+    }
+
+    /**
+     * A scenario is up to date when it passed with the same fingerprint and every registered scenario it depends on
+     * is up to date as well.
+     */
+    public boolean isUpToDate(final TestCase<?, ?, ?, ?> testCase) {
+        return isUpToDate(testCase, new HashSet<>());
+    }
+
+    private boolean isUpToDate(final TestCase<?, ?, ?, ?> testCase, final Set<String> visited) {
+        if (!visited.add(testCase.name())) {
+            return true;
+        }
+        final ScenarioResult previous = results.get(testCase.name());
+        if (previous == null || !previous.passed() || previous.fingerprint() != fingerprint(testCase)) {
+            return false;
+        }
+        return Objects.requireNonNullElse(testCase.dependsOn(), List.<String>of()).stream()
+                .map(scenarios::get)
+                .filter(Objects::nonNull)
+                .allMatch(upstream -> isUpToDate(upstream, visited));
+    }
+
+    public void record(final ScenarioResult result) {
+        if (Objects.isNull(result)) {
+            throw new IllegalArgumentException("Result is required");
+        }
+        results.put(result.name(), result);
+        recorded.add(result.name());
+        dirty.set(true);
+    }
+
+    @Override
+    public void scenarioCompleted(
+            final TestCase<?, ?, ?, ?> testCase, final long durationNanos, final Throwable failure) {
+        record(new ScenarioResult(
+                testCase.name(), fingerprint(testCase), failure == null, durationNanos, System.currentTimeMillis()));
+    }
+
+    /**
+     * Writes the results recorded by this JVM on top of what is on disk. Shards running in other JVMs save to the
+     * same file, so the merge happens under a file lock and only overwrites the scenarios recorded here.
+     */
+    public void save() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        synchronized (SAVE_LOCK) {
+            try {
+                final Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (FileChannel channel = FileChannel.open(
+                                file.resolveSibling(file.getFileName() + ".lock"),
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE);
+                        FileLock ignored = channel.lock()) {
+                    final Map<String, ScenarioResult> merged = read(file);
+                    merged.forEach((name, result) -> {
+                        if (!recorded.contains(name)) {
+                            results.put(name, result);
+                        }
+                    });
+                    recorded.forEach(name -> merged.put(name, results.get(name)));
+                    write(merged);
+                }
+            } catch (final IOException e) {
+                dirty.set(true);
+                throw new UncheckedIOException("Unable to write scenario results to " + file, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        save();
+    }
+
+    private void write(final Map<String, ScenarioResult> snapshot) throws IOException {
+        final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(snapshot.size());
+            for (final ScenarioResult result : snapshot.values()) {
+                out.writeUTF(result.name());
+                out.writeLong(result.fingerprint());
+                out.writeBoolean(result.passed());
+                out.writeLong(result.durationNanos());
+                out.writeLong(result.recordedAt());
+            }
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Map<String, ScenarioResult> read(final Path file) {
+        final Map<String, ScenarioResult> results = new ConcurrentHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOGGER.log(System.Logger.Level.DEBUG, "Ignoring scenario results in unknown format at " + file);
+                return results;
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final ScenarioResult result =
+                        new ScenarioResult(in.readUTF(), in.readLong(), in.readBoolean(), in.readLong(), in.readLong());
+                results.put(result.name(), result);
+            }
+        } catch (final NoSuchFileException e) {
+            return results;
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Ignoring unreadable scenario results at " + file, e);
+            results.clear();
+        }
+        return results;
+    }
+
+    private static final class Shared {
+        private static final ScenarioResultStore INSTANCE = create();
+
+        private Shared() {}
+
+        private static ScenarioResultStore create() {
+            final ScenarioResultStore store = open(Optional.ofNullable(System.getProperty(LOCATION_PROPERTY))
+                    .map(String::trim)
+                    .filter(location -> !location.isEmpty())
+                    .map(Path::of)
+                    .orElse(DEFAULT_LOCATION));
+            Runtime.getRuntime()
+                    .addShutdownHook(new Thread(
+                            () -> {
+                                try {
+                                    store.save();
+                                } catch (final UncheckedIOException e) {
+                                    LOGGER.log(System.Logger.Level.WARNING, e.getMessage(), e);
+                                }
+                            },
+                            "scenario-weaver-results"));
+            return store;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.load;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public record LoadProfile(
+        long iterations, Duration duration, double targetRatePerSecond, long warmupIterations, int failureSampleSize) {
+    private static final int DEFAULT_FAILURE_SAMPLE_SIZE = 10;
+
+    public LoadProfile {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("A load profile needs at least one iteration");
+        }
+        if (Objects.nonNull(duration) && (duration.isNegative() || duration.isZero())) {
+            throw new IllegalArgumentException("A load profile duration must be positive");
+        }
+        if (targetRatePerSecond < 0 || Double.isNaN(targetRatePerSecond)) {
+            throw new IllegalArgumentException("Target rate must be zero (unbounded) or positive");
+        }
+        if (warmupIterations < 0 || failureSampleSize < 0) {
+            throw new IllegalArgumentException("Warm-up iterations and failure sample size cannot be negative");
+        }
+    }
+
+    public static LoadProfile iterations(final long iterations) {
+        return new LoadProfile(iterations, null, 0, 0, DEFAULT_FAILURE_SAMPLE_SIZE);
+    }
+
+    public static LoadProfile duration(final Duration duration) {
+        return new LoadProfile(Long.MAX_VALUE, duration, 0, 0, DEFAULT_FAILURE_SAMPLE_SIZE);
+    }
+
+    public LoadProfile withTargetRate(final double ratePerSecond) {
+        return new LoadProfile(iterations, duration, ratePerSecond, warmupIterations, failureSampleSize);
+    }
+
+    public LoadProfile withWarmup(final long warmup) {
+        return new LoadProfile(iterations, duration, targetRatePerSecond, warmup, failureSampleSize);
+    }
+
+    public LoadProfile withFailureSampleSize(final int sampleSize) {
+        return new LoadProfile(iterations, duration, targetRatePerSecond, warmupIterations, sampleSize);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+public record LoadTestReport(
+        String scenario,
+        long iterations,
+        long failures,
+        Duration elapsed,
+        double throughputPerSecond,
+        long p50Nanos,
+        long p90Nanos,
+        long p99Nanos,
+        long p999Nanos,
+        long maxNanos,
+        List<Throwable> sampledFailures) {
+    public LoadTestReport {
+        sampledFailures = List.copyOf(sampledFailures);
+    }
+
+    public String summary() {
+        return String.format(
+                Locale.ROOT,
+                "%s: %d iterations (%d failed) in %d ms, %.1f ops/s, latency p50=%.3f ms p90=%.3f ms p99=%.3f ms"
+                        + " p99.9=%.3f ms max=%.3f ms",
+                scenario,
+                iterations,
+                failures,
+                elapsed.toMillis(),
+                throughputPerSecond,
+                p50Nanos / 1e6,
+                p90Nanos / 1e6,
+                p99Nanos / 1e6,
+                p999Nanos / 1e6,
+                maxNanos / 1e6);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.load;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPipeline;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioState;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadTestRunner {
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.HOURS.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final ScenarioPipeline SETUP = ScenarioPipeline.standard().through(ScenarioPhase.PROPERTIES_MERGE);
+
+    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> LoadTestReport run(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase, final LoadProfile profile) {
+        if (Objects.isNull(testCase) || Objects.isNull(profile)) {
+            throw new IllegalArgumentException("A TestCase and a LoadProfile are required for a load test");
+        }
+        try (ScenarioState<TPayload, TProps, TResult, TContext> state = new ScenarioState<>(testCase)) {
+            return run(prepare(state), testCase.name(), profile);
+        }
+    }
+
+    private <TPayload, TProps extends TestCaseProperties, TResult, TContext> LoadTestReport run(
+            final PreparedScenario<TPayload, TProps, TResult, TContext> scenario,
+            final String name,
+            final LoadProfile profile) {
+        final FailureSampler failures = new FailureSampler(profile.failureSampleSize());
+        final FailureSampler warmupFailures = new FailureSampler(0);
+        for (long warmup = 0; warmup < profile.warmupIterations(); warmup++) {
+            scenario.iterate(System.nanoTime(), null, warmupFailures);
+        }
+
+        final LatencyHistogram histogram = new LatencyHistogram(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+        final long intervalNanos = profile.targetRatePerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / profile.targetRatePerSecond())
+                : 0;
+        final long start = System.nanoTime();
+        final long deadline = Objects.isNull(profile.duration())
+                ? Long.MAX_VALUE
+                : start + profile.duration().toNanos();
+        long iteration = 0;
+        while (iteration < profile.iterations() && System.nanoTime() - deadline < 0) {
+            final long intendedStart = intervalNanos > 0 ? start + iteration * intervalNanos : System.nanoTime();
+            waitUntil(intendedStart);
+            scenario.iterate(intendedStart, histogram, failures);
+            iteration++;
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+
+        return new LoadTestReport(
+                name,
+                iteration,
+                failures.count(),
+                Duration.ofNanos(elapsedNanos),
+                elapsedNanos == 0 ? 0 : iteration * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+                histogram.valueAtPercentile(50),
+                histogram.valueAtPercentile(90),
+                histogram.valueAtPercentile(99),
+                histogram.valueAtPercentile(99.9),
+                histogram.max(),
+                failures.samples());
+    }
+
+    private static <TPayload, TProps extends TestCaseProperties, TResult, TContext>
+            PreparedScenario<TPayload, TProps, TResult, TContext> prepare(
+                    final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+        SETUP.run(state, ExecutionListener.NONE);
+        final TestCase<TPayload, TProps, TResult, TContext> testCase = state.testCase();
+        return new PreparedScenario<>(
+                state.payload(),
+                state.properties(),
+                state.context(),
+                testCase.actionProvider(),
+                Objects.isNull(testCase.assertions()) ? List.of() : List.copyOf(testCase.assertions()));
+    }
+
+    private static void waitUntil(final long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = nanoTime - System.nanoTime();
+        }
+    }
+
+    private record PreparedScenario<TPayload, TProps, TResult, TContext>(
+            TPayload payload,
+            TProps props,
+            TContext ctx,
+            ActionProvider<TPayload, TProps, TResult> action,
+            List<AssertionsProvider<TResult, TPayload, TContext>> assertions) {
+        private void iterate(
+                final long intendedStart, final LatencyHistogram latencies, final FailureSampler failures) {
+            boolean recorded = false;
+            try {
+                final TResult result = action.execute(payload, props);
+                recorded = record(latencies, intendedStart);
+                for (int index = 0; index < assertions.size(); index++) {
+                    assertions.get(index).execute(result, payload, ctx);
+                }
+            } catch (final Throwable failure) {
+                if (!recorded) {
+                    record(latencies, intendedStart);
+                }
+                failures.offer(failure);
+            }
+        }
+
+        private static boolean record(final LatencyHistogram latencies, final long intendedStart) {
+            if (Objects.nonNull(latencies)) {
+                latencies.record(System.nanoTime() - intendedStart);
+            }
+            return true;
+        }
+    }
+
+    private static final class FailureSampler {
+        private final int capacity;
+        private final List<Throwable> samples;
+        private long count;
+
+        private FailureSampler(final int capacity) {
+            this.capacity = capacity;
+            this.samples = new ArrayList<>(capacity);
+        }
+
+        private void offer(final Throwable failure) {
+            count++;
+            if (samples.size() < capacity) {
+                samples.add(failure);
+                return;
+            }
+            final long slot = ThreadLocalRandom.current().nextLong(count);
+            if (slot < capacity) {
+                samples.set((int) slot, failure);
+            }
+        }
+
+        private long count() {
+            return count;
+        }
+
+        private List<Throwable> samples() {
+            return samples;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.InMemoryExecutionListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class ExecutionListenerTest {
+    private final Queue<String> events = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void every_phase_is_reported_between_scenario_start_and_completion() {
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(new Recording("listener"))) {
+            executor.execute(TestScenario.named("scenario"));
+        }
+
+        final List<String> expected = new ArrayList<>();
+        expected.add("listener started scenario");
+        Arrays.stream(ScenarioPhase.values()).forEach(phase -> {
+            expected.add("listener began " + phase);
+            if (phase == ScenarioPhase.ACTION) {
+                expected.add("listener enters " + phase);
+            }
+            expected.add("listener ended " + phase);
+        });
+        expected.add("listener completed scenario success");
+        assertEquals(expected, List.copyOf(events));
+    }
+
+    @Test
+    void failures_are_reported_with_the_scenario() {
+        final IllegalStateException boom = new IllegalStateException("boom");
+        final AtomicReference<Throwable> reported = new AtomicReference<>();
+        final ExecutionListener listener = new ExecutionListener() {
+            @Override
+            public void scenarioCompleted(
+                    final TestCase<?, ?, ?, ?> testCase, final long durationNanos, final Throwable failure) {
+                reported.set(failure);
+            }
+        };
+
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(listener)) {
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> executor.execute(TestScenario.named("failing").withAction((payload, props) -> {
+                        throw boom;
+                    })));
+        }
+
+        assertSame(boom, reported.get());
+    }
+
+    @Test
+    void composite_notifies_listeners_in_order_and_nests_their_stages() {
+        final ExecutionListener composite =
+                ExecutionListener.composite(List.of(new Recording("first"), new Recording("second")));
+
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(composite)) {
+            executor.execute(TestScenario.named("scenario"));
+        }
+
+        final List<String> action = events.stream()
+                .filter(event -> event.contains(ScenarioPhase.ACTION.name()))
+                .toList();
+        assertEquals(
+                List.of(
+                        "first began ACTION",
+                        "second began ACTION",
+                        "second enters ACTION",
+                        "first enters ACTION",
+                        "first ended ACTION",
+                        "second ended ACTION"),
+                action);
+    }
+
+    @Test
+    void in_memory_listener_summarises_phases_per_scenario() {
+        final InMemoryExecutionListener listener = new InMemoryExecutionListener();
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(listener)) {
+            executor.execute(TestScenario.named("first"));
+            executor.execute(TestScenario.named("second"));
+        }
+
+        assertEquals(ScenarioPhase.values().length, listener.timings("first").size());
+        assertEquals(2, listener.summary().get(ScenarioPhase.ACTION).getCount());
+        listener.clear();
+        assertEquals(List.of(), listener.timings());
+    }
+
+    private final class Recording implements ExecutionListener {
+        private final String name;
+
+        private Recording(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void scenarioStarted(final TestCase<?, ?, ?, ?> testCase) {
+            events.add(name + " started " + testCase.name());
+        }
+
+        @Override
+        public void phaseStarted(final ScenarioState<?, ?, ?, ?> state, final ScenarioPhase phase) {
+            events.add(name + " began " + phase);
+        }
+
+        @Override
+        public void phaseCompleted(
+                final TestCase<?, ?, ?, ?> testCase, final ScenarioPhase phase, final long durationNanos) {
+            events.add(name + " ended " + phase);
+        }
+
+        @Override
+        public ScenarioStage around(final ScenarioPhase phase, final ScenarioStage stage) {
+            if (phase != ScenarioPhase.ACTION) {
+                return stage;
+            }
+            return new ScenarioStage() {
+                @Override
+                public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void apply(
+                        final ScenarioState<TPayload, TProps, TResult, TContext> state) {
+                    events.add(name + " enters " + phase);
+                    stage.apply(state);
+                }
+            };
+        }
+
+        @Override
+        public void scenarioCompleted(
+                final TestCase<?, ?, ?, ?> testCase, final long durationNanos, final Throwable failure) {
+            events.add(name + " completed " + testCase.name() + (failure == null ? " success" : " failure"));
+        }
+    }
+}
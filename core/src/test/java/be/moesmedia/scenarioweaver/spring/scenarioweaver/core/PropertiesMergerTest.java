@@ -0,0 +1,167 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+
+class PropertiesMergerTest {
+
+    @Test
+    void original_values_win_and_missing_ones_are_taken_from_the_update() {
+        final Flat merged = new Flat("original", null, 1).merge(new Flat("update", "filled", 2));
+
+        assertEquals(new Flat("original", "filled", 1), merged);
+    }
+
+    @Test
+    void values_missing_on_both_sides_stay_null() {
+        final Flat merged = new Flat(null, null, 0).merge(new Flat(null, null, 5));
+
+        assertEquals(new Flat(null, null, 0), merged, "primitives are never missing, so the original always wins");
+    }
+
+    @Test
+    void merging_with_null_keeps_the_original_values_in_a_new_instance() {
+        final Flat original = new Flat("original", null, 3);
+
+        final Flat merged = original.merge(null);
+
+        assertEquals(original, merged);
+        assertNotSame(original, merged);
+    }
+
+    @Test
+    void superclass_fields_are_merged() {
+        final Child original = new Child();
+        original.inherited = null;
+        original.own = "own";
+        final Child update = new Child();
+        update.inherited = "inherited";
+        update.own = "ignored";
+
+        final Child merged = original.merge(update);
+
+        assertEquals("inherited", merged.inherited);
+        assertEquals("own", merged.own);
+    }
+
+    @Test
+    void records_are_merged_through_their_canonical_constructor() {
+        final Settings merged = new Settings("original", null, null).merge(new Settings("update", 8080, null));
+
+        assertEquals(new Settings("original", 8080, null), merged);
+    }
+
+    @Test
+    void static_fields_are_left_alone() {
+        Flat.shared = "before";
+
+        new Flat(null, null, 0).merge(new Flat("update", null, 0));
+
+        assertEquals("before", Flat.shared);
+    }
+
+    @Test
+    void merger_is_resolved_once_per_class() {
+        assertSame(PropertiesMerger.forClass(Flat.class), PropertiesMerger.forClass(Flat.class));
+    }
+
+    @Test
+    void flat_classes_merge_like_the_reflective_merge() throws ReflectiveOperationException {
+        final List<Flat> samples =
+                List.of(new Flat(null, null, 0), new Flat("a", null, 1), new Flat(null, "b", 2), new Flat("c", "d", 3));
+
+        for (final Flat original : samples) {
+            for (final Flat update : samples) {
+                assertEquals(reflectiveMerge(original, update), original.merge(update), original + " <- " + update);
+            }
+        }
+    }
+
+    /**
+     * The field-by-field merge {@link TestCaseProperties#merge} used before merge handles were cached per class.
+     */
+    private static <T> T reflectiveMerge(final T original, final T update) throws ReflectiveOperationException {
+        @SuppressWarnings("unchecked")
+        final Class<T> type = (Class<T>) original.getClass();
+        final T merged = type.getDeclaredConstructor().newInstance();
+        for (final Field field : type.getDeclaredFields()) {
+            field.setAccessible(true);
+            final Object originalValue = field.get(original);
+            final Object newValue = field.get(update);
+            if (originalValue != null) {
+                field.set(merged, originalValue);
+            } else if (newValue != null) {
+                field.set(merged, newValue);
+            }
+        }
+        return merged;
+    }
+
+    static final class Flat implements TestCaseProperties {
+        static String shared;
+
+        private String name;
+        private String description;
+        private int retries;
+
+        Flat() {}
+
+        Flat(final String name, final String description, final int retries) {
+            this.name = name;
+            this.description = description;
+            this.retries = retries;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof Flat flat
+                    && Objects.equals(name, flat.name)
+                    && Objects.equals(description, flat.description)
+                    && retries == flat.retries;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, description, retries);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.asList(name, description, retries).toString();
+        }
+    }
+
+    static class Parent implements TestCaseProperties {
+        String inherited;
+    }
+
+    static final class Child extends Parent {
+        String own;
+    }
+
+    record Settings(String host, Integer port, String path) implements TestCaseProperties {}
+}
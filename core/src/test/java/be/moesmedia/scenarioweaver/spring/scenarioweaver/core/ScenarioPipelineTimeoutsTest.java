@@ -0,0 +1,174 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ScenarioPipelineTimeoutsTest {
+
+    @Test
+    void phase_timeout_fails_the_stage() {
+        final ScenarioPipeline pipeline = ScenarioPipeline.standard()
+                .withTimeouts(ScenarioTimeouts.NONE.withPhase(ScenarioPhase.ACTION, Duration.ofMillis(50)));
+        final TestScenario scenario = TestScenario.named("slow").withAction((payload, props) -> sleep(payload));
+
+        final ScenarioTimeoutError error = assertThrows(ScenarioTimeoutError.class, () -> run(pipeline, scenario));
+
+        assertEquals("slow", error.getScenario());
+        assertEquals(ScenarioPhase.ACTION.name(), error.getStage());
+        assertEquals(Duration.ofMillis(50), error.getTimeout());
+    }
+
+    @Test
+    void scenario_deadline_is_visible_to_every_stage() {
+        final AtomicReference<Optional<Deadline>> seen = new AtomicReference<>();
+        final TestScenario scenario = TestScenario.named("deadline")
+                .withTimeouts(ScenarioTimeouts.of(Duration.ofSeconds(10)))
+                .withAction((payload, props) -> {
+                    seen.set(Deadline.current());
+                    return payload;
+                });
+
+        run(ScenarioPipeline.standard(), scenario);
+
+        assertEquals(Duration.ofSeconds(10), seen.get().orElseThrow().timeout());
+    }
+
+    @Test
+    void scenario_timeouts_override_pipeline_defaults() {
+        final ScenarioPipeline pipeline =
+                ScenarioPipeline.standard().withTimeouts(ScenarioTimeouts.of(Duration.ofMinutes(1)));
+        final TestScenario scenario =
+                TestScenario.named("own").withTimeouts(ScenarioTimeouts.of(Duration.ofSeconds(5)));
+
+        assertEquals(
+                Optional.of(Duration.ofSeconds(5)),
+                pipeline.timeoutsFor(scenario).scenario());
+        assertEquals(
+                Optional.of(Duration.ofMinutes(1)),
+                pipeline.timeoutsFor(TestScenario.named("default")).scenario());
+    }
+
+    @Test
+    void inserted_stages_keep_the_pipeline_timeouts() {
+        final ScenarioPipeline pipeline = ScenarioPipeline.standard()
+                .withTimeouts(ScenarioTimeouts.of(Duration.ofSeconds(3)))
+                .insertBefore(ScenarioPhase.ACTION, "noop", ScenarioPipelineTimeoutsTest::noop)
+                .insertAfter(ScenarioPhase.ACTION, "noop-after", ScenarioPipelineTimeoutsTest::noop);
+
+        assertEquals(
+                Optional.of(Duration.ofSeconds(3)),
+                pipeline.timeoutsFor(TestScenario.named("inserted")).scenario());
+    }
+
+    @Test
+    void expanded_scenarios_keep_the_template_timeouts() {
+        final ScenarioTimeouts timeouts = ScenarioTimeouts.of(Duration.ofSeconds(2));
+        final TestScenario template = TestScenario.named("data")
+                .withPayloads((PayloadStreamProvider<Object, String>) input -> Stream.of("a", "b"))
+                .withTimeouts(timeouts);
+
+        try (Stream<TestCase<String, TestCaseProperties, String, Object>> expanded = PayloadStreams.expand(template)) {
+            assertEquals(
+                    List.of(timeouts, timeouts),
+                    expanded.map(TestCase::timeouts).toList());
+        }
+    }
+
+    @Test
+    void timed_out_stage_cannot_write_into_its_closed_scenario() throws InterruptedException {
+        final CountDownLatch released = new CountDownLatch(1);
+        final AtomicReference<Throwable> lateWrite = new AtomicReference<>();
+        final AtomicBoolean leaseReleased = new AtomicBoolean();
+        final TestScenario scenario = TestScenario.named("stubborn");
+        final ScenarioState<String, TestCaseProperties, String, Object> state = new ScenarioState<>(scenario);
+        final ScenarioPipeline pipeline = ScenarioPipeline.standard()
+                .withTimeouts(ScenarioTimeouts.NONE.withPhase(ScenarioPhase.ACTION, Duration.ofMillis(20)))
+                .replace(ScenarioPhase.ACTION, new ScenarioStage() {
+                    @Override
+                    public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void apply(
+                            final ScenarioState<TPayload, TProps, TResult, TContext> running) {
+                        awaitIgnoringInterrupts(released);
+                        running.onClose(() -> leaseReleased.set(true));
+                        try {
+                            running.attribute("late", "too late");
+                        } catch (final IllegalStateException e) {
+                            lateWrite.set(e);
+                        }
+                    }
+                });
+
+        try (state) {
+            assertThrows(ScenarioTimeoutError.class, () -> pipeline.run(state, ExecutionListener.NONE));
+        }
+        released.countDown();
+
+        assertTrue(waitFor(lateWrite), "the late write should have been rejected");
+        assertTrue(leaseReleased.get(), "a lease taken after close should be released immediately");
+        assertNull(state.attribute("late"));
+    }
+
+    private static void run(final ScenarioPipeline pipeline, final TestScenario scenario) {
+        try (ScenarioState<String, TestCaseProperties, String, Object> state = new ScenarioState<>(scenario)) {
+            pipeline.run(state, ExecutionListener.NONE);
+        }
+    }
+
+    private static void noop(final ScenarioState<?, ?, ?, ?> state) {}
+
+    private static String sleep(final String payload) {
+        try {
+            Thread.sleep(Duration.ofSeconds(5));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return payload;
+    }
+
+    private static void awaitIgnoringInterrupts(final CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (final InterruptedException ignored) {
+                // keep running past the deadline, like a stage that swallows interrupts
+            }
+        }
+    }
+
+    private static boolean waitFor(final AtomicReference<Throwable> reference) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (reference.get() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return reference.get() != null;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ScenarioStateTest {
+
+    @Test
+    void close_runs_every_action_latest_first_and_keeps_all_failures() {
+        final List<String> ran = new ArrayList<>();
+        final IllegalStateException first = new IllegalStateException("first");
+        final AssertionError second = new AssertionError("second");
+        final ScenarioState<String, TestCaseProperties, String, Object> state =
+                new ScenarioState<>(TestScenario.named("teardown"));
+        state.onClose(() -> ran.add("registered first"));
+        state.onClose(() -> {
+            ran.add("fails second");
+            throw second;
+        });
+        state.onClose(() -> {
+            ran.add("fails first");
+            throw first;
+        });
+
+        final IllegalStateException thrown = assertThrows(IllegalStateException.class, state::close);
+
+        assertEquals(first, thrown);
+        assertArrayEquals(new Throwable[] {second}, thrown.getSuppressed());
+        assertEquals(List.of("fails first", "fails second", "registered first"), ran);
+    }
+
+    @Test
+    void closed_state_rejects_writes_and_runs_late_close_actions_at_once() {
+        final ScenarioState<String, TestCaseProperties, String, Object> state =
+                new ScenarioState<>(TestScenario.named("closed"));
+        final List<String> ran = new ArrayList<>();
+        state.close();
+
+        state.onClose(() -> ran.add("late"));
+
+        assertTrue(state.isClosed());
+        assertEquals(List.of("late"), ran);
+        assertThrows(IllegalStateException.class, () -> state.setResult("result"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.ParallelTestExecutor;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class TestExecutorTest {
+    private final Queue<String> executed = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void scenarios_of_one_class_get_distinct_default_names() {
+        final TestCase<String, TestCaseProperties, String, Object> first = unnamed("first");
+        final TestCase<String, TestCaseProperties, String, Object> second = unnamed("second");
+
+        assertEquals(first.getClass(), second.getClass());
+        assertNotEquals(first.name(), second.name());
+        assertTrue(first.name().startsWith(first.getClass().getName() + "#"), first.name());
+    }
+
+    @Test
+    void sequential_execution_runs_scenarios_that_share_a_name() {
+        try (DefaultTestExecutor executor = new DefaultTestExecutor()) {
+            executor.executeAll(List.of(unnamed("once"), unnamed("twice"), unnamed("twice")));
+
+            assertEquals(List.of("once", "twice", "twice"), List.copyOf(executed));
+        }
+    }
+
+    @Test
+    void executors_keyed_by_name_reject_duplicates_before_anything_runs() {
+        try (ParallelTestExecutor executor = new ParallelTestExecutor()) {
+            final IllegalArgumentException error = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> executor.executeAll(List.of(unnamed("once"), unnamed("twice"), unnamed("twice"))));
+
+            assertTrue(error.getMessage().contains("twice"), error.getMessage());
+            assertEquals(List.of(), List.copyOf(executed));
+        }
+    }
+
+    @Test
+    void data_driven_scenarios_run_once_per_payload_with_execute_each() {
+        final TestScenario dataDriven = TestScenario.named("data")
+                .withPayloads((PayloadStreamProvider<Object, String>) input -> Stream.of("a", "b", "c"))
+                .withAction((payload, props) -> {
+                    executed.add(payload);
+                    return payload;
+                });
+
+        try (DefaultTestExecutor executor = new DefaultTestExecutor()) {
+            executor.executeEach(dataDriven);
+
+            assertEquals(List.of("a", "b", "c"), List.copyOf(executed));
+        }
+    }
+
+    @Test
+    void data_driven_scenarios_fail_fast_with_execute() {
+        final TestScenario dataDriven = TestScenario.named("data")
+                .withPayloads((PayloadStreamProvider<Object, String>) input -> Stream.of("a", "b"))
+                .withAction((payload, props) -> {
+                    executed.add(payload);
+                    return payload;
+                });
+
+        try (DefaultTestExecutor executor = new DefaultTestExecutor()) {
+            final IllegalStateException error =
+                    assertThrows(IllegalStateException.class, () -> executor.execute(dataDriven));
+
+            assertTrue(error.getMessage().contains("executeEach"), error.getMessage());
+            assertEquals(List.of(), List.copyOf(executed));
+        }
+    }
+
+    private TestCase<String, TestCaseProperties, String, Object> unnamed(final String description) {
+        return new TestCase<>() {
+            @Override
+            public String description() {
+                return description;
+            }
+
+            @Override
+            public PayloadProvider<Object, String> payloadProvider() {
+                return input -> description;
+            }
+
+            @Override
+            public PropertiesProvider<TestCaseProperties, Object> propertiesProvider() {
+                return null;
+            }
+
+            @Override
+            public StubsProvider<String, TestCaseProperties, Object> stubs() {
+                return null;
+            }
+
+            @Override
+            public List<AssertionsProvider<String, String, Object>> assertions() {
+                return List.of();
+            }
+
+            @Override
+            public ActionProvider<String, TestCaseProperties, String> actionProvider() {
+                return (payload, props) -> {
+                    executed.add(payload);
+                    return payload;
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core;
+
+import java.util.List;
+
+/**
+ * A minimal {@link TestCase} for unit tests: the payload is the scenario name and the action echoes it.
+ */
+public final class TestScenario implements TestCase<String, TestCaseProperties, String, Object> {
+    private final String name;
+    private final String group;
+    private final PayloadProvider<Object, String> payloadProvider;
+    private final StubsProvider<String, TestCaseProperties, Object> stubs;
+    private final ActionProvider<String, TestCaseProperties, String> action;
+    private final ScenarioTimeouts timeouts;
+    private final List<String> dependsOn;
+    private final List<AssertionsProvider<String, String, Object>> assertions;
+
+    private TestScenario(
+            final String name,
+            final String group,
+            final PayloadProvider<Object, String> payloadProvider,
+            final StubsProvider<String, TestCaseProperties, Object> stubs,
+            final ActionProvider<String, TestCaseProperties, String> action,
+            final ScenarioTimeouts timeouts,
+            final List<String> dependsOn,
+            final List<AssertionsProvider<String, String, Object>> assertions) {
+        this.name = name;
+        this.group = group;
+        this.payloadProvider = payloadProvider;
+        this.stubs = stubs;
+        this.action = action;
+        this.timeouts = timeouts;
+        this.dependsOn = dependsOn;
+        this.assertions = assertions;
+    }
+
+    public static TestScenario named(final String name) {
+        return new TestScenario(
+                name,
+                "",
+                input -> name,
+                null,
+                (payload, props) -> payload,
+                ScenarioTimeouts.NONE,
+                List.of(),
+                List.of());
+    }
+
+    public TestScenario inGroup(final String group) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, dependsOn, assertions);
+    }
+
+    public TestScenario withPayloads(final PayloadProvider<Object, String> payloadProvider) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, dependsOn, assertions);
+    }
+
+    public TestScenario withStubs(final StubsProvider<String, TestCaseProperties, Object> stubs) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, dependsOn, assertions);
+    }
+
+    public TestScenario withAction(final ActionProvider<String, TestCaseProperties, String> action) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, dependsOn, assertions);
+    }
+
+    public TestScenario withTimeouts(final ScenarioTimeouts timeouts) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, dependsOn, assertions);
+    }
+
+    public TestScenario dependingOn(final String... upstream) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, List.of(upstream), assertions);
+    }
+
+    @SafeVarargs
+    public final TestScenario withAssertions(final AssertionsProvider<String, String, Object>... assertions) {
+        return new TestScenario(name, group, payloadProvider, stubs, action, timeouts, dependsOn, List.of(assertions));
+    }
+
+    @Override
+    public String description() {
+        return "Test scenario " + name;
+    }
+
+    @Override
+    public PayloadProvider<Object, String> payloadProvider() {
+        return payloadProvider;
+    }
+
+    @Override
+    public PropertiesProvider<TestCaseProperties, Object> propertiesProvider() {
+        return null;
+    }
+
+    @Override
+    public StubsProvider<String, TestCaseProperties, Object> stubs() {
+        return stubs;
+    }
+
+    @Override
+    public List<AssertionsProvider<String, String, Object>> assertions() {
+        return assertions;
+    }
+
+    @Override
+    public ActionProvider<String, TestCaseProperties, String> actionProvider() {
+        return action;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String group() {
+        return group;
+    }
+
+    @Override
+    public ScenarioTimeouts timeouts() {
+        return timeouts;
+    }
+
+    @Override
+    public List<String> dependsOn() {
+        return dependsOn;
+    }
+
+    @Override
+    public List<Class<?>> fingerprintClasses() {
+        return List.of(TestScenario.class, action.getClass());
+    }
+}
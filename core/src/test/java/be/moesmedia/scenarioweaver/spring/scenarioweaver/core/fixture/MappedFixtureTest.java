@@ -0,0 +1,117 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.fixture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFixtureTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void records_are_decoded_as_utf8() throws IOException {
+        final MappedFixture fixture = MappedFixture.open(fixture("héllo\nwörld\nplain\n"));
+
+        assertEquals(List.of("héllo", "wörld", "plain"), strings(fixture));
+        assertEquals("héllo", fixture.string(0, StandardCharsets.UTF_8));
+        assertEquals(6, fixture.chars(0, StandardCharsets.ISO_8859_1).length(), "latin-1 views the raw bytes");
+    }
+
+    @Test
+    void last_record_without_a_trailing_delimiter_is_kept() throws IOException {
+        final MappedFixture fixture = MappedFixture.open(fixture("a\nbb\r\nccc"));
+
+        assertEquals(List.of("a", "bb", "ccc"), strings(fixture));
+    }
+
+    @Test
+    void records_are_read_across_segment_boundaries() throws IOException {
+        final List<String> records = IntStream.range(0, 20)
+                .mapToObj(i -> "record-" + "x".repeat(i % 5))
+                .toList();
+        final MappedFixture fixture = MappedFixture.open(fixture(String.join("\n", records)), (byte) '\n', 24);
+
+        assertTrue(fixture.segmentCount() > 1, "fixture should be split over several segments");
+        assertEquals(records, strings(fixture));
+    }
+
+    @Test
+    void record_larger_than_a_segment_is_rejected() throws IOException {
+        final Path file = fixture("short\nmuch-too-long\n");
+
+        assertThrows(IllegalStateException.class, () -> MappedFixture.open(file, (byte) '\n', 8));
+    }
+
+    @Test
+    void cached_index_is_rebuilt_when_the_fixture_grows() throws IOException {
+        final Path file = fixture("a\nb\n");
+        assertEquals(2, MappedFixture.open(file).size());
+        assertTrue(Files.exists(file.resolveSibling(file.getFileName() + MappedFixture.INDEX_SUFFIX)));
+
+        rewrite(file, "aa\nbb\ncc\n");
+
+        assertEquals(List.of("aa", "bb", "cc"), strings(MappedFixture.open(file)));
+    }
+
+    @Test
+    void cached_index_is_rebuilt_when_a_same_size_fixture_is_modified() throws IOException {
+        final Path file = fixture("a\nb\n");
+        assertEquals(2, MappedFixture.open(file).size());
+
+        rewrite(file, "abc\n");
+
+        assertEquals(List.of("abc"), strings(MappedFixture.open(file)));
+    }
+
+    @Test
+    void cached_index_is_not_reused_for_another_delimiter() throws IOException {
+        final Path file = fixture("a;b\nc;d\n");
+        assertEquals(2, MappedFixture.open(file).size());
+
+        assertEquals(List.of("a", "b\nc", "d\n"), strings(MappedFixture.open(file, (byte) ';')));
+    }
+
+    private Path fixture(final String content) throws IOException {
+        return Files.writeString(directory.resolve("fixture.txt"), content, StandardCharsets.UTF_8);
+    }
+
+    private static void rewrite(final Path file, final String content) throws IOException {
+        final FileTime previous = Files.getLastModifiedTime(file);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(previous.toMillis() + 1000));
+    }
+
+    private static List<String> strings(final MappedFixture fixture) {
+        return LongStream.range(0, fixture.size())
+                .mapToObj(record -> fixture.chars(record).toString())
+                .toList();
+    }
+}
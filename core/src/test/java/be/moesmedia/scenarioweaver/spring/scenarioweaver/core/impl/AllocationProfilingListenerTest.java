@@ -0,0 +1,91 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class AllocationProfilingListenerTest {
+    private static final int ALLOCATION = 8 * 1024 * 1024;
+
+    private final AllocationProfilingListener profiler = new AllocationProfilingListener();
+    private volatile byte[] sink;
+
+    @Test
+    void action_allocations_are_measured() {
+        assumeTrue(profiler.isSupported());
+
+        run(allocating("plain"));
+
+        assertTrue(actionAllocation("plain") >= ALLOCATION, "measured " + actionAllocation("plain"));
+        assertTrue(profiler.scenarios().get(0).allocatedBytes() >= ALLOCATION);
+    }
+
+    @Test
+    void phases_under_a_deadline_are_measured_on_the_thread_that_runs_them() {
+        assumeTrue(profiler.isSupported());
+
+        run(allocating("timed")
+                .withTimeouts(ScenarioTimeouts.NONE.withPhase(ScenarioPhase.ACTION, Duration.ofSeconds(30))));
+
+        assertTrue(actionAllocation("timed") >= ALLOCATION, "measured " + actionAllocation("timed"));
+        assertTrue(profiler.scenarios().get(0).allocatedBytes() >= ALLOCATION);
+    }
+
+    @Test
+    void phases_on_virtual_threads_are_reported_unavailable() throws InterruptedException {
+        assumeTrue(profiler.isSupported());
+
+        final Thread caller = Thread.ofVirtual()
+                .start(() -> run(allocating("virtual")
+                        .withTimeouts(ScenarioTimeouts.NONE.withPhase(ScenarioPhase.ACTION, Duration.ofSeconds(30)))));
+        caller.join();
+
+        assertEquals(-1, actionAllocation("virtual"));
+        assertEquals(-1, profiler.scenarios().get(0).allocatedBytes(), "an unmeasured phase voids the total");
+        assertTrue(profiler.summary().isEmpty());
+    }
+
+    private TestScenario allocating(final String name) {
+        return TestScenario.named(name).withAction((payload, props) -> {
+            sink = new byte[ALLOCATION];
+            return payload + sink.length;
+        });
+    }
+
+    private void run(final TestScenario scenario) {
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(profiler, new StubContextCache())) {
+            executor.execute(scenario);
+        }
+    }
+
+    private long actionAllocation(final String scenario) {
+        return profiler.phases(scenario).stream()
+                .filter(allocation -> allocation.phase() == ScenarioPhase.ACTION)
+                .findFirst()
+                .orElseThrow()
+                .allocatedBytes();
+    }
+}
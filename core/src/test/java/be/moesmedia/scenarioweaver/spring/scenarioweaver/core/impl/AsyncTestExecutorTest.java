@@ -0,0 +1,144 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AsyncActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeoutError;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AsyncTestExecutorTest {
+    private static final String COMPLETER = "io-completer";
+
+    @Test
+    void verification_runs_on_the_executor_and_not_on_the_completing_thread() {
+        final AtomicReference<String> verifiedOn = new AtomicReference<>();
+        final AtomicReference<String> verified = new AtomicReference<>();
+        final TestScenario scenario = TestScenario.named("async")
+                .withAction(async((payload, props) -> completedLater(payload + "-done")))
+                .withAssertions((actual, expected, context) -> {
+                    verifiedOn.set(Thread.currentThread().getName());
+                    verified.set(actual);
+                });
+
+        try (AsyncTestExecutor executor = new AsyncTestExecutor()) {
+            executor.execute(scenario);
+        }
+
+        assertEquals("async-done", verified.get());
+        assertNotEquals(COMPLETER, verifiedOn.get());
+    }
+
+    @Test
+    void failing_assertion_fails_the_scenario() {
+        final TestScenario scenario = TestScenario.named("async")
+                .withAction(async((payload, props) -> completedLater(payload)))
+                .withAssertions((actual, expected, context) -> {
+                    throw new AssertionError("expected failure");
+                });
+
+        try (AsyncTestExecutor executor = new AsyncTestExecutor()) {
+            final AssertionError error = assertThrows(AssertionError.class, () -> executor.execute(scenario));
+
+            assertEquals("expected failure", error.getMessage());
+        }
+    }
+
+    @Test
+    void action_past_its_deadline_is_cancelled() {
+        final CompletableFuture<String> never = new CompletableFuture<>();
+        final TestScenario scenario = TestScenario.named("slow")
+                .withAction(async((payload, props) -> never))
+                .withTimeouts(ScenarioTimeouts.NONE.withPhase(ScenarioPhase.ACTION, Duration.ofMillis(50)));
+
+        try (AsyncTestExecutor executor = new AsyncTestExecutor()) {
+            final ScenarioTimeoutError error =
+                    assertThrows(ScenarioTimeoutError.class, () -> executor.execute(scenario));
+
+            assertEquals("slow", error.getScenario());
+            assertTrue(never.isCancelled());
+        }
+    }
+
+    @Test
+    void timeout_exception_from_the_action_is_not_reported_as_a_missed_deadline() {
+        final TestScenario scenario = TestScenario.named("remote")
+                .withAction(async((payload, props) -> CompletableFuture.failedFuture(new TimeoutException("remote"))))
+                .withTimeouts(ScenarioTimeouts.NONE.withPhase(ScenarioPhase.ACTION, Duration.ofSeconds(30)));
+
+        try (AsyncTestExecutor executor = new AsyncTestExecutor()) {
+            final CompletionException error = assertThrows(CompletionException.class, () -> executor.execute(scenario));
+
+            assertInstanceOf(TimeoutException.class, error.getCause());
+        }
+    }
+
+    @Test
+    void no_more_than_max_in_flight_scenarios_are_started() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final List<TestScenario> scenarios = IntStream.range(0, 20)
+                .mapToObj(index -> TestScenario.named("scenario-" + index).withAction(async((payload, props) -> {
+                    peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return completedLater(payload).whenComplete((value, failure) -> inFlight.decrementAndGet());
+                })))
+                .toList();
+
+        try (AsyncTestExecutor executor = new AsyncTestExecutor(ExecutionListener.NONE, 3)) {
+            executor.executeAll(scenarios);
+        }
+
+        assertTrue(peak.get() <= 3, "peak in flight was " + peak.get());
+    }
+
+    private static AsyncActionProvider<String, TestCaseProperties, String> async(
+            final AsyncActionProvider<String, TestCaseProperties, String> action) {
+        return action;
+    }
+
+    private static CompletableFuture<String> completedLater(final String value) {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        Thread.ofPlatform().name(COMPLETER).daemon().start(() -> {
+            try {
+                Thread.sleep(10);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            future.complete(value);
+        });
+        return future;
+    }
+}
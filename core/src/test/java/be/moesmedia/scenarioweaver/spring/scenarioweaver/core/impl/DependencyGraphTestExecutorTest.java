@@ -0,0 +1,126 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.DependentPayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.MultipleScenarioFailuresError;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+
+class DependencyGraphTestExecutorTest {
+    private final Queue<String> executed = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void scenarios_run_after_their_upstream_and_see_its_result() {
+        final TestScenario login = recording("login");
+        final TestScenario order = recording("order").dependingOn("login").withPayloads((DependentPayloadProvider<
+                        Object, String>)
+                (upstream, input) -> upstream.get("login", String.class) + "/order");
+        final TestScenario invoice = recording("invoice").dependingOn("order", "login");
+
+        try (DependencyGraphTestExecutor executor = new DependencyGraphTestExecutor(new DefaultTestExecutor(), 4)) {
+            executor.executeAll(List.of(invoice, order, login));
+
+            assertEquals(List.of("login", "login/order", "invoice"), List.copyOf(executed));
+            assertEquals("login/order", executor.results().get("order"));
+        }
+    }
+
+    @Test
+    void failed_upstream_skips_its_dependents() {
+        final TestScenario broken = TestScenario.named("broken").withAction((payload, props) -> {
+            throw new IllegalStateException("boom");
+        });
+        final TestScenario dependent = recording("dependent").dependingOn("broken");
+        final TestScenario independent = recording("independent");
+
+        try (DependencyGraphTestExecutor executor = new DependencyGraphTestExecutor(new DefaultTestExecutor(), 2)) {
+            final MultipleScenarioFailuresError error = assertThrows(
+                    MultipleScenarioFailuresError.class,
+                    () -> executor.executeAll(List.of(broken, dependent, independent)));
+
+            assertEquals(1, error.getFailures().size(), "skipped scenarios are not failures");
+            assertTrue(error.getMessage().contains("skipped [dependent]"), error.getMessage());
+            assertEquals(List.of("independent"), List.copyOf(executed));
+        }
+    }
+
+    @Test
+    void cycles_are_rejected_before_anything_runs() {
+        final List<TestScenario> cycle = List.of(
+                recording("a").dependingOn("c"),
+                recording("b").dependingOn("a"),
+                recording("c").dependingOn("b"));
+
+        try (DependencyGraphTestExecutor executor = new DependencyGraphTestExecutor(new DefaultTestExecutor(), 2)) {
+            final IllegalArgumentException error =
+                    assertThrows(IllegalArgumentException.class, () -> executor.executeAll(cycle));
+
+            assertTrue(error.getMessage().contains("cycle"), error.getMessage());
+            assertTrue(executed.isEmpty());
+        }
+    }
+
+    @Test
+    void unknown_dependencies_are_rejected() {
+        try (DependencyGraphTestExecutor executor = new DependencyGraphTestExecutor(new DefaultTestExecutor(), 2)) {
+            final IllegalArgumentException error = assertThrows(
+                    IllegalArgumentException.class,
+                    () -> executor.executeAll(List.of(recording("orphan").dependingOn("missing"))));
+
+            assertTrue(error.getMessage().contains("'missing'"), error.getMessage());
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> executor.execute(recording("late").dependingOn("missing")));
+        }
+    }
+
+    @Test
+    void duplicate_names_are_rejected() {
+        try (DependencyGraphTestExecutor executor = new DependencyGraphTestExecutor(new DefaultTestExecutor(), 2)) {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> executor.executeAll(List.of(recording("twice"), recording("twice"))));
+        }
+    }
+
+    @Test
+    void closing_forgets_completed_results() {
+        final DependencyGraphTestExecutor executor = new DependencyGraphTestExecutor(new DefaultTestExecutor(), 2);
+        executor.executeAll(List.of(recording("done")));
+        assertTrue(executor.results().contains("done"));
+
+        executor.close();
+
+        assertTrue(executor.results().isEmpty());
+    }
+
+    private TestScenario recording(final String name) {
+        return TestScenario.named(name).withAction((payload, props) -> {
+            executed.add(payload);
+            return payload;
+        });
+    }
+}
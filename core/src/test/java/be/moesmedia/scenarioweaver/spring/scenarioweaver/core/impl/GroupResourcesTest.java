@@ -0,0 +1,163 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioGroup;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class GroupResourcesTest {
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    void concurrent_scenarios_open_a_group_once() throws Exception {
+        final GroupResources resources = new GroupResources(List.of(group("group", () -> "resources")));
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            final List<Future<Optional<Object>>> opened = IntStream.range(0, 32)
+                    .mapToObj(index -> executor.submit(() -> resources.resources("group")))
+                    .toList();
+            for (final Future<Optional<Object>> future : opened) {
+                assertEquals(Optional.of("resources"), future.get());
+            }
+        }
+
+        resources.close();
+        assertEquals(1, created.get());
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void group_may_open_another_group_while_creating_its_resources() {
+        final GroupResources[] holder = new GroupResources[1];
+        holder[0] = new GroupResources(List.of(
+                group("outer", () -> "outer+" + holder[0].resources("inner").orElseThrow()),
+                group("inner", () -> "inner")));
+
+        assertEquals(Optional.of("outer+inner"), holder[0].resources("outer"));
+        holder[0].close();
+        assertEquals(2, closed.get());
+    }
+
+    @Test
+    void failed_open_is_retried_on_next_use() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final GroupResources resources = new GroupResources(List.of(group("flaky", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("not yet");
+            }
+            return "resources";
+        })));
+
+        assertThrows(IllegalStateException.class, () -> resources.resources("flaky"));
+        assertEquals(Optional.of("resources"), resources.resources("flaky"));
+        resources.close();
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    void group_retained_during_its_teardown_waits_for_the_teardown() throws Exception {
+        final CountDownLatch closing = new CountDownLatch(1);
+        final CountDownLatch finishClosing = new CountDownLatch(1);
+        final Queue<String> events = new ConcurrentLinkedQueue<>();
+        final GroupResources resources = new GroupResources(List.of(new ScenarioGroup<String>() {
+            @Override
+            public String name() {
+                return "group";
+            }
+
+            @Override
+            public String createResources() {
+                events.add("open");
+                return "resources";
+            }
+
+            @Override
+            public void afterGroup(final String ignored) {
+                events.add("closing");
+                closing.countDown();
+                try {
+                    finishClosing.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                events.add("closed");
+            }
+        }));
+        final StubContextCache.Retention first = resources.retain(List.of("group"));
+        resources.resources("group");
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            final Future<?> released = executor.submit(first::close);
+            assertTrue(closing.await(5, TimeUnit.SECONDS));
+            final Future<Optional<Object>> reopened = executor.submit(() -> {
+                resources.retain(List.of("group"));
+                return resources.resources("group");
+            });
+
+            try {
+                Thread.sleep(100);
+                assertFalse(reopened.isDone(), "retaining a group must wait until its teardown has finished");
+            } finally {
+                finishClosing.countDown();
+            }
+            released.get(5, TimeUnit.SECONDS);
+            assertEquals(Optional.of("resources"), reopened.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("open", "closing", "closed", "open"), List.copyOf(events));
+        resources.close();
+    }
+
+    private ScenarioGroup<String> group(final String name, final Supplier<String> factory) {
+        return new ScenarioGroup<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String createResources() {
+                final String resources = factory.get();
+                created.incrementAndGet();
+                return resources;
+            }
+
+            @Override
+            public void afterGroup(final String resources) {
+                closed.incrementAndGet();
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ParallelTestExecutorTest {
+    private final Queue<String> events = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void close_closes_an_owned_delegate() {
+        final ExecutorService pool = new ForkJoinPool(2);
+        try {
+            new ParallelTestExecutor(new Recording(), pool, Map.of(), true, false).close();
+
+            assertEquals(List.of("closed"), List.copyOf(events));
+            assertFalse(pool.isShutdown(), "a borrowed pool stays open");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void close_leaves_a_borrowed_delegate_and_pool_open() {
+        final ExecutorService pool = new ForkJoinPool(2);
+        try {
+            new ParallelTestExecutor(new Recording(), pool, Map.of()).close();
+
+            assertEquals(List.of(), List.copyOf(events));
+            assertFalse(pool.isShutdown());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void close_waits_for_running_scenarios_before_closing_the_delegate() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final TestScenario slow = TestScenario.named("slow").withAction((payload, props) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add("finished");
+            return payload;
+        });
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        final ParallelTestExecutor executor = new ParallelTestExecutor(new Recording(), pool, Map.of(), true, true);
+        final CompletableFuture<Void> run = CompletableFuture.runAsync(() -> executor.executeAll(List.of(slow)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(release::countDown);
+        executor.close();
+
+        assertTrue(pool.isTerminated());
+        assertEquals(List.of("finished", "closed"), List.copyOf(events));
+        run.join();
+    }
+
+    private final class Recording implements TestExecutor, AutoCloseable {
+        private final DefaultTestExecutor delegate = new DefaultTestExecutor();
+
+        @Override
+        public <TPayload, TProps extends TestCaseProperties, TResult, TContext> void execute(
+                final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+            delegate.execute(testCase);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            events.add("closed");
+        }
+    }
+}
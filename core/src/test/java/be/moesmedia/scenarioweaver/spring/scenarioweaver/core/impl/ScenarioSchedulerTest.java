@@ -0,0 +1,147 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental.ScenarioResult;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental.ScenarioResultStore;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScenarioSchedulerTest {
+    private static final List<TestScenario> SCENARIOS = IntStream.range(0, 40)
+            .mapToObj(index -> TestScenario.named("scenario-" + index))
+            .toList();
+    private static final Map<String, Long> DURATIONS = SCENARIOS.stream()
+            .collect(Collectors.toMap(
+                    TestScenario::name, scenario -> 1L + (scenario.name().hashCode() & 0x3FF)));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void every_scenario_runs_in_exactly_one_shard() {
+        final ScenarioScheduler scheduler = new ScenarioScheduler(Map.of("scenario-3", 500L, "scenario-7", 20L));
+        final List<String> seen = new ArrayList<>();
+
+        for (int index = 0; index < 3; index++) {
+            scheduler
+                    .shard(SCENARIOS, new ScenarioScheduler.Shard(index, 3))
+                    .forEach(scenario -> seen.add(scenario.name()));
+        }
+
+        assertEquals(SCENARIOS.size(), seen.size());
+        assertEquals(
+                SCENARIOS.stream().map(TestScenario::name).sorted().toList(),
+                seen.stream().sorted().toList());
+    }
+
+    @Test
+    void shard_totals_are_balanced() {
+        final ScenarioScheduler scheduler = new ScenarioScheduler(DURATIONS);
+        final int count = 4;
+        final long[] totals = new long[count];
+
+        for (int index = 0; index < count; index++) {
+            totals[index] = scheduler.shard(SCENARIOS, new ScenarioScheduler.Shard(index, count)).stream()
+                    .mapToLong(scenario -> DURATIONS.get(scenario.name()))
+                    .sum();
+        }
+
+        final long longest =
+                DURATIONS.values().stream().mapToLong(Long::longValue).max().orElseThrow();
+        final long spread = Arrays.stream(totals).max().orElseThrow()
+                - Arrays.stream(totals).min().orElseThrow();
+        assertTrue(spread <= longest, "LPT keeps shards within one scenario of each other: " + Arrays.toString(totals));
+    }
+
+    @Test
+    void jvms_reading_the_same_durations_file_agree_on_the_split() {
+        final Path file = directory.resolve("durations.bin");
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            DURATIONS.forEach((name, duration) -> store.record(new ScenarioResult(name, 0L, true, duration, 0L)));
+        }
+        final ScenarioScheduler first = ScenarioScheduler.fromStore(ScenarioResultStore.open(file));
+        final ScenarioScheduler second = ScenarioScheduler.fromStore(ScenarioResultStore.open(file));
+
+        for (int index = 0; index < 3; index++) {
+            final ScenarioScheduler.Shard shard = new ScenarioScheduler.Shard(index, 3);
+            assertEquals(names(first.shard(SCENARIOS, shard)), names(second.shard(SCENARIOS, shard)));
+        }
+    }
+
+    @Test
+    void equal_durations_are_split_by_name() {
+        final ScenarioScheduler scheduler = new ScenarioScheduler(Map.of("a", 10L, "b", 10L, "c", 10L, "d", 10L));
+        final Function<Integer, List<String>> shard = index -> names(scheduler.shard(
+                List.of(
+                        TestScenario.named("d"),
+                        TestScenario.named("c"),
+                        TestScenario.named("b"),
+                        TestScenario.named("a")),
+                new ScenarioScheduler.Shard(index, 2)));
+
+        assertEquals(List.of("a", "c"), shard.apply(0));
+        assertEquals(List.of("b", "d"), shard.apply(1));
+    }
+
+    @Test
+    void shard_members_match_the_per_scenario_condition() {
+        final ScenarioScheduler scheduler = new ScenarioScheduler(Map.of("scenario-5", 100L));
+        final ScenarioScheduler.Shard shard = new ScenarioScheduler.Shard(1, 3);
+
+        assertEquals(
+                SCENARIOS.stream()
+                        .filter(scenario -> scheduler.inShard(scenario.name(), shard))
+                        .count(),
+                scheduler.shard(SCENARIOS, shard).size());
+    }
+
+    @Test
+    void scenarios_run_longest_first_with_unknown_ones_at_the_average() {
+        final ScenarioScheduler scheduler = new ScenarioScheduler(Map.of("slow", 300L, "fast", 100L));
+
+        final List<TestScenario> ordered = scheduler.order(
+                List.of(TestScenario.named("fast"), TestScenario.named("unknown"), TestScenario.named("slow")));
+
+        assertEquals(List.of("slow", "unknown", "fast"), names(ordered));
+        assertEquals(200L, scheduler.estimate("unknown"));
+    }
+
+    @Test
+    void shards_must_fit_their_count() {
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioScheduler.Shard(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> new ScenarioScheduler.Shard(0, 0));
+    }
+
+    private static List<String> names(final List<TestScenario> scenarios) {
+        return scenarios.stream().map(TestScenario::name).toList();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioGroup;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioState;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.SharedStubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class StubContextCacheTest {
+    private final AtomicInteger created = new AtomicInteger();
+    private final Queue<Object> tornDown = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void leases_share_one_context_until_the_last_one_is_released() {
+        final Shared shared = new Shared();
+        try (StubContextCache cache = new StubContextCache()) {
+            final StubContextCache.Lease<Object> first = cache.acquire("group", shared, "payload", null);
+            final StubContextCache.Lease<Object> second = cache.acquire("group", shared, "payload", null);
+
+            assertSame(first.context(), second.context());
+            assertEquals(1, created.get());
+
+            first.close();
+            first.close();
+            assertEquals(1, cache.size(), "a lease released twice only counts once");
+            assertEquals(List.of(), List.copyOf(tornDown));
+
+            second.close();
+            assertEquals(0, cache.size());
+            assertEquals(List.of(second.context()), List.copyOf(tornDown));
+        }
+    }
+
+    @Test
+    void retained_group_keeps_its_contexts_until_the_retention_is_closed() {
+        final Shared shared = new Shared();
+        try (StubContextCache cache = new StubContextCache()) {
+            try (StubContextCache.Retention ignored = cache.retain(List.of("group"))) {
+                cache.acquire("group", shared, "payload", null).close();
+                cache.acquire("group", shared, "payload", null).close();
+
+                assertEquals(1, created.get());
+                assertEquals(1, cache.size());
+            }
+            assertEquals(0, cache.size());
+            assertEquals(1, tornDown.size());
+        }
+    }
+
+    @Test
+    void teardown_runs_outside_the_map_operation() {
+        final AtomicInteger reentered = new AtomicInteger();
+        try (StubContextCache cache = new StubContextCache()) {
+            final Shared reentrant = new Shared() {
+                @Override
+                public void teardown(final Object context) {
+                    super.teardown(context);
+                    if (reentered.getAndIncrement() == 0) {
+                        cache.acquire("group", this, "payload", null).close();
+                    }
+                }
+            };
+
+            cache.acquire("group", reentrant, "payload", null).close();
+
+            assertEquals(2, reentered.get());
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    void failing_factory_does_not_leak_a_reference() {
+        final SharedStubsProvider<String, Object, Object> failing = new Shared() {
+            @Override
+            public Object create(final String payload, final Object properties) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        try (StubContextCache cache = new StubContextCache()) {
+            assertThrows(IllegalStateException.class, () -> cache.acquire("group", failing, "payload", null));
+
+            assertEquals(0, cache.size());
+        }
+    }
+
+    @Test
+    void group_resources_are_only_opened_when_a_scenario_needs_them() {
+        final AtomicInteger opened = new AtomicInteger();
+        final ScenarioGroup<String> group = new ScenarioGroup<>() {
+            @Override
+            public String name() {
+                return "group";
+            }
+
+            @Override
+            public String createResources() {
+                opened.incrementAndGet();
+                return "resources";
+            }
+        };
+        try (StubContextCache cache = new StubContextCache(List.of(group))) {
+            final ScenarioState<String, TestCaseProperties, String, Object> stubbed = new ScenarioState<>(
+                    TestScenario.named("stubbed").inGroup("group").withStubs((payload, props) -> "own stubs"));
+            cache.stage().apply(stubbed);
+
+            assertEquals("own stubs", stubbed.context());
+            assertEquals(0, opened.get());
+
+            final ScenarioState<String, TestCaseProperties, String, Object> bare =
+                    new ScenarioState<>(TestScenario.named("bare").inGroup("group"));
+            cache.stage().apply(bare);
+
+            assertEquals("resources", bare.context());
+            assertEquals(1, opened.get());
+        }
+    }
+
+    @Test
+    void scenario_outside_a_declared_group_gets_no_context() {
+        try (StubContextCache cache = new StubContextCache()) {
+            final ScenarioState<String, TestCaseProperties, String, Object> state =
+                    new ScenarioState<>(TestScenario.named("bare").inGroup("unknown"));
+            cache.stage().apply(state);
+
+            assertNull(state.context());
+        }
+    }
+
+    private class Shared implements SharedStubsProvider<String, Object, Object> {
+        @Override
+        public Object key(final String payload, final Object properties) {
+            return payload;
+        }
+
+        @Override
+        public Object create(final String payload, final Object properties) {
+            created.incrementAndGet();
+            return new Object();
+        }
+
+        @Override
+        public void teardown(final Object context) {
+            tornDown.add(context);
+        }
+    }
+}
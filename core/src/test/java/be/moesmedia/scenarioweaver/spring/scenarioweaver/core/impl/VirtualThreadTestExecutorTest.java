@@ -0,0 +1,107 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadTestExecutorTest {
+    private static final Duration PINNED_FOR = Duration.ofMillis(100);
+
+    @Test
+    void scenarios_run_on_virtual_threads() {
+        final List<Boolean> virtual = new CopyOnWriteArrayList<>();
+        final TestScenario scenario = TestScenario.named("virtual").withAction((payload, props) -> {
+            virtual.add(Thread.currentThread().isVirtual());
+            return payload;
+        });
+
+        try (VirtualThreadTestExecutor executor =
+                new VirtualThreadTestExecutor(new DefaultTestExecutor(), Map.of(), false)) {
+            executor.execute(scenario);
+            executor.executeAll(List.of(TestScenario.named("a"), scenario.inGroup("other")));
+        }
+
+        assertEquals(List.of(true, true), virtual);
+    }
+
+    @Test
+    void pinning_is_reported_for_the_executors_own_threads_only() throws InterruptedException {
+        final TestScenario pinning = TestScenario.named("pinning").withAction((payload, props) -> {
+            pin();
+            return payload;
+        });
+
+        try (VirtualThreadTestExecutor executor =
+                new VirtualThreadTestExecutor(new DefaultTestExecutor(), Map.of(), true)) {
+            Thread.ofVirtual()
+                    .name("foreign")
+                    .start(VirtualThreadTestExecutorTest::pin)
+                    .join();
+            executor.execute(pinning);
+
+            assertTrue(eventually(() -> !executor.pinningEvents().isEmpty()), "pinning should be reported");
+            assertTrue(
+                    executor.pinningEvents().stream()
+                            .allMatch(event -> event.threadName().startsWith("scenario-")),
+                    executor.pinningEvents().toString());
+        }
+    }
+
+    @Test
+    void monitor_ignores_threads_outside_its_filter() throws InterruptedException {
+        try (PinningMonitor monitor = new PinningMonitor(Duration.ofMillis(20), threadId -> false);
+                PinningMonitor everything = new PinningMonitor(Duration.ofMillis(20))) {
+            Thread.ofVirtual().start(VirtualThreadTestExecutorTest::pin).join();
+
+            assertTrue(eventually(() -> !everything.events().isEmpty()), "unfiltered monitor should see the pin");
+            assertEquals(List.of(), monitor.events());
+        }
+    }
+
+    private static void pin() {
+        final Object monitor = new Object();
+        synchronized (monitor) {
+            try {
+                Thread.sleep(PINNED_FOR);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static boolean eventually(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return condition.getAsBoolean();
+    }
+}
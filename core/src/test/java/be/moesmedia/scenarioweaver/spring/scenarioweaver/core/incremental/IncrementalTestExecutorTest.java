@@ -0,0 +1,70 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class IncrementalTestExecutorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void unchanged_passing_scenarios_are_skipped_on_the_next_run() throws Exception {
+        final Path file = directory.resolve("results.bin");
+        final Queue<String> executed = new ConcurrentLinkedQueue<>();
+        try (IncrementalTestExecutor executor = new IncrementalTestExecutor(ScenarioResultStore.open(file))) {
+            executor.executeAll(List.of(recording("first", executed), recording("second", executed)));
+            assertEquals(0, executor.skipped());
+        }
+
+        try (IncrementalTestExecutor executor = new IncrementalTestExecutor(ScenarioResultStore.open(file))) {
+            executor.executeAll(List.of(recording("first", executed), recording("second", executed)));
+            assertEquals(2, executor.skipped());
+        }
+
+        assertEquals(List.of("first", "second"), List.copyOf(executed));
+    }
+
+    @Test
+    void closing_saves_the_results_recorded_by_the_delegate() throws Exception {
+        final Path file = directory.resolve("results.bin");
+        final TestScenario scenario = TestScenario.named("saved");
+        try (IncrementalTestExecutor executor = new IncrementalTestExecutor(ScenarioResultStore.open(file))) {
+            executor.execute(scenario);
+        }
+
+        assertTrue(ScenarioResultStore.open(file).isUpToDate(scenario));
+    }
+
+    private static TestScenario recording(final String name, final Queue<String> executed) {
+        return TestScenario.named(name).withAction((payload, props) -> {
+            executed.add(payload);
+            return payload;
+        });
+    }
+}
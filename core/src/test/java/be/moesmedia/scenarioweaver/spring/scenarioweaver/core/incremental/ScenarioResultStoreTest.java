@@ -0,0 +1,234 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadStreamProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadStreams;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ScenarioResultStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void results_survive_a_round_trip() {
+        final Path file = directory.resolve("results.bin");
+        final ScenarioResult passed = new ScenarioResult("passed", 42L, true, 1_000L, 10L);
+        final ScenarioResult failed = new ScenarioResult("failed", 7L, false, 2_000L, 20L);
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.record(passed);
+            store.record(failed);
+        }
+
+        final ScenarioResultStore reopened = ScenarioResultStore.open(file);
+
+        assertEquals(2, reopened.size());
+        assertEquals(Optional.of(passed), reopened.result("passed"));
+        assertEquals(Optional.of(failed), reopened.result("failed"));
+    }
+
+    @Test
+    void only_unchanged_passing_scenarios_are_up_to_date() {
+        final Path file = directory.resolve("results.bin");
+        final TestScenario unchanged = TestScenario.named("unchanged");
+        final TestScenario failing = TestScenario.named("failing");
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.scenarioCompleted(unchanged, 1_000L, null);
+            store.scenarioCompleted(failing, 1_000L, new AssertionError("boom"));
+            store.record(new ScenarioResult("changed", 0L, true, 1_000L, 0L));
+        }
+
+        final ScenarioResultStore reopened = ScenarioResultStore.open(file);
+
+        assertTrue(reopened.isUpToDate(unchanged));
+        assertFalse(reopened.isUpToDate(failing));
+        assertFalse(reopened.isUpToDate(TestScenario.named("changed")));
+        assertFalse(reopened.isUpToDate(TestScenario.named("never-ran")));
+    }
+
+    @Test
+    void concurrent_shards_merge_their_results() {
+        final Path file = directory.resolve("results.bin");
+        final ScenarioResultStore first = ScenarioResultStore.open(file);
+        final ScenarioResultStore second = ScenarioResultStore.open(file);
+        first.record(new ScenarioResult("first", 1L, true, 1L, 1L));
+        second.record(new ScenarioResult("second", 2L, true, 2L, 2L));
+        second.record(new ScenarioResult("shared", 3L, false, 3L, 3L));
+
+        second.save();
+        first.record(new ScenarioResult("shared", 4L, true, 4L, 4L));
+        first.save();
+
+        final ScenarioResultStore merged = ScenarioResultStore.open(file);
+        assertEquals(3, merged.size());
+        assertTrue(merged.result("first").isPresent());
+        assertTrue(merged.result("second").isPresent());
+        assertEquals(4L, merged.result("shared").orElseThrow().fingerprint());
+        assertTrue(first.result("second").isPresent(), "saving picks up what other shards wrote");
+    }
+
+    @Test
+    void unreadable_files_start_an_empty_store() throws IOException {
+        final Path file = directory.resolve("results.bin");
+        Files.writeString(file, "not a result store");
+
+        assertEquals(0, ScenarioResultStore.open(file).size());
+    }
+
+    @Test
+    void expanded_scenarios_fingerprint_like_their_template() {
+        final TestScenario template = TestScenario.named("data")
+                .withPayloads((PayloadStreamProvider<Object, String>) input -> Stream.of("a", "b"));
+
+        try (Stream<TestCase<String, TestCaseProperties, String, Object>> expanded = PayloadStreams.expand(template)) {
+            expanded.forEach(scenario -> assertEquals(template.fingerprintClasses(), scenario.fingerprintClasses()));
+        }
+    }
+
+    @Test
+    void changing_one_scenario_keeps_unrelated_scenarios_up_to_date() {
+        final Path file = directory.resolve("results.bin");
+        final TestScenario stable = TestScenario.named("stable");
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            final TestScenario edited = TestScenario.named("edited").withAction(new Echo());
+            store.register(List.of(stable, edited));
+            store.scenarioCompleted(stable, 1_000L, null);
+            store.scenarioCompleted(edited, 1_000L, null);
+        }
+
+        final ScenarioResultStore reopened = ScenarioResultStore.open(file);
+        final TestScenario edited = TestScenario.named("edited").withAction(new Shout());
+        reopened.register(List.of(stable, edited));
+
+        assertTrue(reopened.isUpToDate(stable));
+        assertFalse(reopened.isUpToDate(edited));
+    }
+
+    @Test
+    void changing_an_upstream_scenario_invalidates_its_dependents() {
+        final Path file = directory.resolve("results.bin");
+        final TestScenario order = TestScenario.named("order").dependingOn("login");
+        final TestScenario invoice = TestScenario.named("invoice").dependingOn("order");
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            final TestScenario login = TestScenario.named("login").withAction(new Echo());
+            store.register(List.of(login, order, invoice));
+            List.of(login, order, invoice).forEach(scenario -> store.scenarioCompleted(scenario, 1_000L, null));
+        }
+
+        final ScenarioResultStore unchanged = ScenarioResultStore.open(file);
+        unchanged.register(List.of(TestScenario.named("login").withAction(new Echo()), order, invoice));
+        assertTrue(unchanged.isUpToDate(invoice));
+
+        final ScenarioResultStore changed = ScenarioResultStore.open(file);
+        changed.register(List.of(TestScenario.named("login").withAction(new Shout()), order, invoice));
+        assertFalse(changed.isUpToDate(order));
+        assertFalse(changed.isUpToDate(invoice), "the change propagates through the whole dependsOn closure");
+    }
+
+    @Test
+    void failed_upstream_invalidates_its_dependents() {
+        final Path file = directory.resolve("results.bin");
+        final TestScenario login = TestScenario.named("login");
+        final TestScenario order = TestScenario.named("order").dependingOn("login");
+        try (ScenarioResultStore store = ScenarioResultStore.open(file)) {
+            store.register(List.of(login, order));
+            store.scenarioCompleted(login, 1_000L, new AssertionError("boom"));
+            store.scenarioCompleted(order, 1_000L, null);
+        }
+
+        final ScenarioResultStore reopened = ScenarioResultStore.open(file);
+        reopened.register(List.of(login, order));
+
+        assertFalse(reopened.isUpToDate(order));
+    }
+
+    @Test
+    void default_fingerprint_does_not_resolve_providers() {
+        final TestCase<String, TestCaseProperties, String, Object> lazy = new Unresolvable();
+
+        assertEquals(List.of(Unresolvable.class), lazy.fingerprintClasses());
+        assertEquals(ScenarioFingerprint.of(new Unresolvable()), ScenarioFingerprint.of(lazy));
+    }
+
+    private static final class Unresolvable implements TestCase<String, TestCaseProperties, String, Object> {
+        @Override
+        public String description() {
+            return "unresolvable";
+        }
+
+        @Override
+        public PayloadProvider<Object, String> payloadProvider() {
+            throw new AssertionError("payload provider resolved");
+        }
+
+        @Override
+        public PropertiesProvider<TestCaseProperties, Object> propertiesProvider() {
+            throw new AssertionError("properties provider resolved");
+        }
+
+        @Override
+        public StubsProvider<String, TestCaseProperties, Object> stubs() {
+            throw new AssertionError("stubs resolved");
+        }
+
+        @Override
+        public List<AssertionsProvider<String, String, Object>> assertions() {
+            throw new AssertionError("assertions resolved");
+        }
+
+        @Override
+        public ActionProvider<String, TestCaseProperties, String> actionProvider() {
+            throw new AssertionError("action provider resolved");
+        }
+    }
+
+    private static final class Echo implements ActionProvider<String, TestCaseProperties, String> {
+        @Override
+        public String execute(final String payload, final TestCaseProperties props) {
+            return payload;
+        }
+    }
+
+    private static final class Shout implements ActionProvider<String, TestCaseProperties, String> {
+        @Override
+        public String execute(final String payload, final TestCaseProperties props) {
+            return payload.toUpperCase(Locale.ROOT);
+        }
+    }
+}
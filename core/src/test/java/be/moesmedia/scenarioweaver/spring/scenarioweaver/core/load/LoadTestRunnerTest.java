@@ -0,0 +1,67 @@
+/*
+ * scenario-weaver-core - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.core.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestScenario;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LoadTestRunnerTest {
+    private static final long SLOW_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void concurrent_runs_on_one_runner_keep_their_own_latencies() {
+        final LoadTestRunner runner = new LoadTestRunner();
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final TestScenario slow = TestScenario.named("slow").withAction((payload, props) -> {
+            slowStarted.countDown();
+            sleep(SLOW_NANOS);
+            return payload;
+        });
+
+        final CompletableFuture<LoadTestReport> slowReport =
+                CompletableFuture.supplyAsync(() -> runner.run(slow, LoadProfile.iterations(3)));
+        await(slowStarted);
+        final LoadTestReport fastReport = runner.run(TestScenario.named("fast"), LoadProfile.iterations(1_000));
+
+        assertEquals(1_000, fastReport.iterations());
+        assertTrue(fastReport.maxNanos() < SLOW_NANOS / 2, fastReport.summary());
+        assertTrue(slowReport.join().p50Nanos() >= SLOW_NANOS, slowReport.join().summary());
+    }
+
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
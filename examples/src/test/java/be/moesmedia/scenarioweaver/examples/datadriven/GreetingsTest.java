@@ -0,0 +1,41 @@
+/*
+ * scenario-weaver-examples - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.examples.datadriven;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.junit.ScenarioDynamicTests;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.junit.TestCaseWeaverExtension;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(TestCaseWeaverExtension.class)
+class GreetingsTest {
+
+    @TestFactory
+    Stream<DynamicTest> test_greetings(TestExecutor testExecutor) {
+        return ScenarioDynamicTests.of(new GreetingsTestCase(), testExecutor);
+    }
+
+    @Test
+    void test_greetings_in_one_go(TestExecutor testExecutor) {
+        testExecutor.executeEach(new GreetingsTestCase());
+    }
+}
@@ -21,7 +21,6 @@ import be.moesmedia.scenarioweaver.spring.EnableTestCaseWeaving;
 import be.moesmedia.scenarioweaver.spring.InjectTestCase;
 import be.moesmedia.scenarioweaver.spring.SpringTestCaseWeaverExtension;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.*;
-import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -34,17 +33,17 @@ import org.springframework.http.ResponseEntity;
         classes = {HelloSpringApplication.class, HelloSpringTest.MyTestConfig.class},
         webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ExtendWith(SpringTestCaseWeaverExtension.class)
+@EnableTestCaseWeaving(basePackages = "be.moesmedia.scenarioweaver.examples.hellospring")
 class HelloSpringTest {
 
-    private final TestExecutor executor = new DefaultTestExecutor();
-
     @Test
-    void test_hello_spring(@InjectTestCase("helloSpring") TestCase<String, TestCaseProperties, String, Void> testCase) {
+    void test_hello_spring(
+            @InjectTestCase("helloSpring") TestCase<String, TestCaseProperties, String, Void> testCase,
+            TestExecutor executor) {
         executor.execute(testCase);
     }
 
     @TestConfiguration
-    @EnableTestCaseWeaving(basePackages = "be.moesmedia.scenarioweaver.examples.hellospring")
     static class MyTestConfig {
         @Bean
         public StubsProvider<Void, TestCaseProperties, Void> myStubsProvider() {
@@ -20,7 +20,6 @@ package be.moesmedia.scenarioweaver.examples.helloworld;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
-import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.junit.InjectTestCase;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.junit.TestCaseSource;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.junit.TestCaseWeaverExtension;
@@ -34,10 +33,10 @@ class HelloWorldTest {
     @TestCaseSource
     private final HelloWorldTestCaseProvider testCaseProvider = new HelloWorldTestCaseProvider();
 
-    private final TestExecutor testExecutor = new DefaultTestExecutor();
-
     @Test
-    void test_hello_world(@InjectTestCase("hello-world") TestCase<String, TestCaseProperties, String, Void> testCase) {
+    void test_hello_world(
+            @InjectTestCase("hello-world") TestCase<String, TestCaseProperties, String, Void> testCase,
+            TestExecutor testExecutor) {
         testExecutor.execute(testCase);
     }
 }
@@ -21,6 +21,7 @@ import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.junit.TestCaseProvider;
 import java.util.Optional;
+import java.util.Set;
 
 public class HelloWorldTestCaseProvider implements TestCaseProvider {
     @Override
@@ -30,4 +31,9 @@ public class HelloWorldTestCaseProvider implements TestCaseProvider {
         }
         return Optional.empty();
     }
+
+    @Override
+    public Set<String> names() {
+        return Set.of("hello-world");
+    }
 }
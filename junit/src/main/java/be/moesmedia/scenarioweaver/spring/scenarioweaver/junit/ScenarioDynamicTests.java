@@ -0,0 +1,45 @@
+/*
+ * scenario-weaver-junit - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.junit;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadStreams;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+
+public final class ScenarioDynamicTests {
+    private ScenarioDynamicTests() {}
+
+    public static <TPayload, TProps extends TestCaseProperties, TResult, TContext> Stream<DynamicTest> of(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase) {
+        return of(testCase, new DefaultTestExecutor());
+    }
+
+    public static <TPayload, TProps extends TestCaseProperties, TResult, TContext> Stream<DynamicTest> of(
+            final TestCase<TPayload, TProps, TResult, TContext> testCase, final TestExecutor executor) {
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("TestExecutor is null, there is nothing to run the scenarios with");
+        }
+        return PayloadStreams.expand(testCase)
+                .map(scenario -> DynamicTest.dynamicTest(scenario.name(), () -> executor.execute(scenario)));
+    }
+}
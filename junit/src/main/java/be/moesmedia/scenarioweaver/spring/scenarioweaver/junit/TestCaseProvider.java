@@ -19,7 +19,12 @@ package be.moesmedia.scenarioweaver.spring.scenarioweaver.junit;
 
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
 import java.util.Optional;
+import java.util.Set;
 
 public interface TestCaseProvider {
     Optional<? extends TestCase<?, ?, ?, ?>> getTestCase(String name);
+
+    default Set<String> names() {
+        return Set.of();
+    }
 }
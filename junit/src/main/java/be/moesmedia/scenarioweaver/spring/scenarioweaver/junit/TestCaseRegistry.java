@@ -0,0 +1,121 @@
+/*
+ * scenario-weaver-junit - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.junit;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+
+final class TestCaseRegistry {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final List<String> fieldNames = new ArrayList<>();
+    private final List<MethodHandle> providerGetters = new ArrayList<>();
+    private final Map<String, Integer> providerByName = new ConcurrentHashMap<>();
+    private volatile boolean indexed;
+
+    TestCaseRegistry(final Class<?> testClass) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (final Field field : testClass.getDeclaredFields()) {
+            if (field.isAnnotationPresent(TestCaseSource.class)) {
+                field.setAccessible(true);
+                try {
+                    providerGetters.add(getter(lookup, field));
+                    fieldNames.add(field.getName());
+                } catch (final IllegalAccessException e) {
+                    throw new ParameterResolutionException(
+                            "Could not access @TestCaseSource field: " + field.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adapts every field to {@code (Object) -> Object}; a static getter takes no receiver, so it ignores the instance.
+     */
+    private static MethodHandle getter(final MethodHandles.Lookup lookup, final Field field)
+            throws IllegalAccessException {
+        final MethodHandle getter = lookup.unreflectGetter(field);
+        if (Modifier.isStatic(field.getModifiers())) {
+            return MethodHandles.dropArguments(getter.asType(MethodType.methodType(Object.class)), 0, Object.class);
+        }
+        return getter.asType(GETTER_TYPE);
+    }
+
+    Optional<? extends TestCase<?, ?, ?, ?>> resolve(final Object testInstance, final String testCaseName) {
+        if (!indexed) {
+            index(testInstance);
+        }
+        final Integer indexedProvider = providerByName.get(testCaseName);
+        if (indexedProvider != null) {
+            final Optional<? extends TestCase<?, ?, ?, ?>> testCase =
+                    lookup(indexedProvider, testInstance, testCaseName);
+            if (testCase.isPresent()) {
+                return testCase;
+            }
+        }
+        for (int index = 0; index < providerGetters.size(); index++) {
+            final Optional<? extends TestCase<?, ?, ?, ?>> testCase = lookup(index, testInstance, testCaseName);
+            if (testCase.isPresent()) {
+                providerByName.putIfAbsent(testCaseName, index);
+                return testCase;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private synchronized void index(final Object testInstance) {
+        if (indexed) {
+            return;
+        }
+        for (int index = 0; index < providerGetters.size(); index++) {
+            if (provider(index, testInstance) instanceof TestCaseProvider provider) {
+                for (final String name : provider.names()) {
+                    providerByName.putIfAbsent(name, index);
+                }
+            }
+        }
+        indexed = true;
+    }
+
+    private Optional<? extends TestCase<?, ?, ?, ?>> lookup(
+            final int index, final Object testInstance, final String testCaseName) {
+        if (provider(index, testInstance) instanceof TestCaseProvider provider) {
+            return provider.getTestCase(testCaseName);
+        }
+        return Optional.empty();
+    }
+
+    private Object provider(final int index, final Object testInstance) {
+        try {
+            return (Object) providerGetters.get(index).invokeExact(testInstance);
+        } catch (final Throwable e) {
+            throw new ParameterResolutionException(
+                    "Could not access @TestCaseSource field: " + fieldNames.get(index), e);
+        }
+    }
+}
@@ -17,51 +17,102 @@
  */
 package be.moesmedia.scenarioweaver.spring.scenarioweaver.junit;
 
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.CloseableTestExecutor;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
-import java.lang.reflect.Field;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.ScenarioScheduler;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.TestExecutors;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Optional;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 
-public final class TestCaseWeaverExtension implements ParameterResolver {
+public final class TestCaseWeaverExtension implements ParameterResolver, ExecutionCondition {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(TestCaseWeaverExtension.class);
 
     @Override
     public boolean supportsParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext)
             throws ParameterResolutionException {
-        return parameterContext.isAnnotated(InjectTestCase.class)
-                && TestCase.class.isAssignableFrom(
-                        parameterContext.getParameter().getType());
+        final Class<?> type = parameterContext.getParameter().getType();
+        return isExecutor(type)
+                || (parameterContext.isAnnotated(InjectTestCase.class) && TestCase.class.isAssignableFrom(type));
     }
 
     @Override
     public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext)
             throws ParameterResolutionException {
+        if (isExecutor(parameterContext.getParameter().getType())) {
+            return executor(extensionContext);
+        }
         final InjectTestCase injectTestCaseAnnotation =
                 parameterContext.findAnnotation(InjectTestCase.class).orElse(null);
         final String testCaseName = injectTestCaseAnnotation != null ? injectTestCaseAnnotation.value() : "";
 
         final Object testInstance = extensionContext.getRequiredTestInstance();
 
-        for (final Field field : testInstance.getClass().getDeclaredFields()) {
-            if (field.isAnnotationPresent(TestCaseSource.class)) {
-                field.setAccessible(true);
-                try {
-                    final Object provider = field.get(testInstance);
-                    if (provider instanceof TestCaseProvider) {
-                        Optional<? extends TestCase<?, ?, ?, ?>> testCase =
-                                ((TestCaseProvider) provider).getTestCase(testCaseName);
-                        if (testCase.isPresent()) {
-                            return testCase.get();
-                        }
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new ParameterResolutionException(
-                            "Could not access @TestCaseSource field: " + field.getName(), e);
-                }
-            }
+        return registry(extensionContext, testInstance.getClass())
+                .resolve(testInstance, testCaseName)
+                .orElseThrow(() -> new ParameterResolutionException("No TestCase found for name: " + testCaseName));
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(final ExtensionContext extensionContext) {
+        final Optional<ScenarioScheduler.Shard> shard = ScenarioScheduler.Shard.fromSystemProperties();
+        if (shard.isEmpty()
+                || extensionContext.getTestMethod().isEmpty()
+                || extensionContext.getTestInstance().isEmpty()) {
+            return ConditionEvaluationResult.enabled("Not sharded");
+        }
+        final Object testInstance = extensionContext.getRequiredTestInstance();
+        final TestCaseRegistry registry = registry(extensionContext, testInstance.getClass());
+        return Arrays.stream(extensionContext.getRequiredTestMethod().getParameters())
+                .map(parameter -> parameter.getAnnotation(InjectTestCase.class))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .flatMap(injectTestCase -> registry.resolve(testInstance, injectTestCase.value()))
+                .map(TestCase::name)
+                .filter(name -> !ScenarioScheduler.shared().inShard(name, shard.get()))
+                .map(name -> ConditionEvaluationResult.disabled("Scenario '" + name + "' runs in another shard than "
+                        + shard.get().index() + " of " + shard.get().count()))
+                .orElseGet(() -> ConditionEvaluationResult.enabled("Scenario runs in this shard"));
+    }
+
+    /**
+     * One executor per test class, selected by {@link TestExecutors#forTestClass(Class)}. The class-level store closes
+     * it, together with its thread pools and stub contexts, once the class has finished.
+     */
+    private static CloseableTestExecutor executor(final ExtensionContext extensionContext) {
+        final ExtensionContext classContext = classContext(extensionContext);
+        return classContext
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(
+                        CloseableTestExecutor.class,
+                        key -> TestExecutors.forTestClass(classContext.getRequiredTestClass()),
+                        CloseableTestExecutor.class);
+    }
+
+    private static boolean isExecutor(final Class<?> type) {
+        return type == TestExecutor.class || type == CloseableTestExecutor.class;
+    }
+
+    private static TestCaseRegistry registry(final ExtensionContext extensionContext, final Class<?> testClass) {
+        return classContext(extensionContext)
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(testClass, TestCaseRegistry::new, TestCaseRegistry.class);
+    }
+
+    private static ExtensionContext classContext(final ExtensionContext extensionContext) {
+        ExtensionContext classContext = extensionContext;
+        while (classContext.getTestMethod().isPresent()
+                && classContext.getParent().isPresent()) {
+            classContext = classContext.getParent().get();
         }
-        throw new ParameterResolutionException("No TestCase found for name: " + testCaseName);
+        return classContext;
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * scenario-weaver-junit - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.scenarioweaver.junit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TestCaseRegistryTest {
+
+    @Test
+    void resolves_scenarios_from_static_and_instance_fields() {
+        final Fields fields = new Fields();
+        final TestCaseRegistry registry = new TestCaseRegistry(Fields.class);
+
+        assertSame(Fields.SHARED_SCENARIO, registry.resolve(fields, "shared").orElseThrow());
+        assertSame(fields.ownScenario, registry.resolve(fields, "own").orElseThrow());
+        assertTrue(registry.resolve(fields, "missing").isEmpty());
+    }
+
+    @Test
+    void static_fields_resolve_for_every_instance() {
+        final TestCaseRegistry registry = new TestCaseRegistry(Fields.class);
+
+        assertSame(
+                Fields.SHARED_SCENARIO, registry.resolve(new Fields(), "shared").orElseThrow());
+        assertSame(
+                Fields.SHARED_SCENARIO, registry.resolve(new Fields(), "shared").orElseThrow());
+    }
+
+    @Test
+    void instance_fields_resolve_against_the_given_instance() {
+        final TestCaseRegistry registry = new TestCaseRegistry(Fields.class);
+        final Fields first = new Fields();
+        final Fields second = new Fields();
+
+        assertSame(first.ownScenario, registry.resolve(first, "own").orElseThrow());
+        assertSame(second.ownScenario, registry.resolve(second, "own").orElseThrow());
+    }
+
+    @Test
+    void providers_without_an_index_are_searched_in_field_order() {
+        final TestCaseRegistry registry = new TestCaseRegistry(Unindexed.class);
+
+        assertEquals(
+                "late", registry.resolve(new Unindexed(), "late").orElseThrow().name());
+    }
+
+    static final class Fields {
+        static final Named SHARED_SCENARIO = new Named("shared");
+
+        @TestCaseSource
+        private static final TestCaseProvider SHARED = new MapProvider(Map.of("shared", SHARED_SCENARIO));
+
+        private final Named ownScenario = new Named("own");
+
+        @TestCaseSource
+        private final TestCaseProvider own = new MapProvider(Map.of("own", ownScenario));
+    }
+
+    static final class Unindexed {
+        @TestCaseSource
+        private static final TestCaseProvider EARLY = name -> Optional.empty();
+
+        @TestCaseSource
+        private final TestCaseProvider late = name -> Optional.of(new Named(name));
+    }
+
+    private record MapProvider(Map<String, Named> scenarios) implements TestCaseProvider {
+        @Override
+        public Optional<? extends TestCase<?, ?, ?, ?>> getTestCase(final String name) {
+            return Optional.ofNullable(scenarios.get(name));
+        }
+
+        @Override
+        public Set<String> names() {
+            return scenarios.keySet();
+        }
+    }
+
+    private record Named(String name) implements TestCase<String, TestCaseProperties, String, Object> {
+        @Override
+        public String description() {
+            return name;
+        }
+
+        @Override
+        public PayloadProvider<Object, String> payloadProvider() {
+            return context -> name;
+        }
+
+        @Override
+        public PropertiesProvider<TestCaseProperties, Object> propertiesProvider() {
+            return null;
+        }
+
+        @Override
+        public StubsProvider<String, TestCaseProperties, Object> stubs() {
+            return null;
+        }
+
+        @Override
+        public List<AssertionsProvider<String, String, Object>> assertions() {
+            return List.of();
+        }
+
+        @Override
+        public ActionProvider<String, TestCaseProperties, String> actionProvider() {
+            return (payload, props) -> payload;
+        }
+    }
+}
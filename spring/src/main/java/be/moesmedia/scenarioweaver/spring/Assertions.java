@@ -24,4 +24,6 @@ import java.lang.annotation.Target;
 
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface Assertions {}
+public @interface Assertions {
+    boolean independent() default false;
+}
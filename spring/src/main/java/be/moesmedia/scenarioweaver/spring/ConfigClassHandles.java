@@ -0,0 +1,117 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.IndependentAssertion;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+final class ConfigClassHandles {
+    private static final ClassValue<ConfigClassHandles> HANDLES = new ClassValue<>() {
+        @Override
+        protected ConfigClassHandles computeValue(final Class<?> type) {
+            try {
+                return resolve(type);
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot resolve TestCase configuration for " + type.getName(), e);
+            }
+        }
+    };
+
+    private final MethodHandle constructor;
+    private final MethodHandle assertions;
+    private final boolean independent;
+
+    private ConfigClassHandles(
+            final MethodHandle constructor, final MethodHandle assertions, final boolean independent) {
+        this.constructor = constructor;
+        this.assertions = assertions;
+        this.independent = independent;
+    }
+
+    static ConfigClassHandles forClass(final Class<?> configClass) {
+        return HANDLES.get(configClass);
+    }
+
+    List<?> assertions() {
+        if (Objects.isNull(assertions)) {
+            return List.of();
+        }
+        try {
+            final Object instance = (Object) constructor.invokeExact();
+            final List<?> declared = (List<?>) (Object) assertions.invokeExact(instance);
+            return independent ? markIndependent(declared) : declared;
+        } catch (final Throwable e) {
+            throw propagate(e);
+        }
+    }
+
+    private static ConfigClassHandles resolve(final Class<?> configClass) throws ReflectiveOperationException {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Constructor<?> declaredConstructor = configClass.getDeclaredConstructor();
+        declaredConstructor.setAccessible(true);
+        final MethodHandle constructor =
+                lookup.unreflectConstructor(declaredConstructor).asType(MethodType.methodType(Object.class));
+        for (final Method method : configClass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Assertions.class)) {
+                method.setAccessible(true);
+                return new ConfigClassHandles(
+                        constructor,
+                        assertionsHandle(lookup, method),
+                        method.getAnnotation(Assertions.class).independent());
+            }
+        }
+        return new ConfigClassHandles(constructor, null, false);
+    }
+
+    /**
+     * Adapts the {@code @Assertions} method to {@code (Object) -> Object}; a static method ignores the instance.
+     */
+    private static MethodHandle assertionsHandle(final MethodHandles.Lookup lookup, final Method method)
+            throws IllegalAccessException {
+        final MethodHandle assertions = lookup.unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            return MethodHandles.dropArguments(assertions.asType(MethodType.methodType(Object.class)), 0, Object.class);
+        }
+        return assertions.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static List<?> markIndependent(final List<?> assertions) {
+        return assertions.stream()
+                .map(assertion -> IndependentAssertion.of((AssertionsProvider) assertion))
+                .toList();
+    }
+
+    private static RuntimeException propagate(final Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(throwable);
+    }
+}
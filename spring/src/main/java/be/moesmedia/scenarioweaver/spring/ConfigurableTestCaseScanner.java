@@ -21,22 +21,33 @@ import java.util.HashSet;
 import java.util.Set;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
 
 public class ConfigurableTestCaseScanner {
     private ConfigurableTestCaseScanner() {}
 
     public static Set<Class<?>> getAnnotatedClasses(final String basePackage) {
+        return getAnnotatedClasses(basePackage, ClassUtils.getDefaultClassLoader());
+    }
+
+    public static Set<Class<?>> getAnnotatedClasses(final String basePackage, final ClassLoader classLoader) {
         final ClassPathScanningCandidateComponentProvider scanner =
                 new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
         scanner.addIncludeFilter(new AnnotationTypeFilter(ConfigureTestCase.class));
 
         final Set<Class<?>> classes = new HashSet<>();
         for (final BeanDefinition beanDef : scanner.findCandidateComponents(basePackage)) {
+            final String className = beanDef.getBeanClassName();
+            if (className == null) {
+                continue;
+            }
             try {
-                classes.add(Class.forName(beanDef.getBeanClassName()));
+                classes.add(ClassUtils.forName(className, classLoader));
             } catch (ClassNotFoundException e) {
-                throw new RuntimeException("Failed to load class: " + beanDef.getBeanClassName(), e);
+                throw new RuntimeException("Failed to load class: " + className, e);
             }
         }
         return classes;
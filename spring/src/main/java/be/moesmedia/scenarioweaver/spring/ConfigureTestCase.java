@@ -38,4 +38,12 @@ public @interface ConfigureTestCase {
     String group() default "";
 
     String name() default "";
+
+    TestCaseScope scope() default TestCaseScope.SINGLETON;
+
+    long timeoutMillis() default 0;
+
+    PhaseTimeout[] phaseTimeouts() default {};
+
+    String[] dependsOn() default {};
 }
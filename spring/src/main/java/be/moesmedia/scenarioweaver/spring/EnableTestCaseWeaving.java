@@ -28,4 +28,6 @@ import org.springframework.context.annotation.Import;
 @Import(TestCaseWeavingRegistrar.class)
 public @interface EnableTestCaseWeaving {
     String[] basePackages();
+
+    boolean lazyInit() default true;
 }
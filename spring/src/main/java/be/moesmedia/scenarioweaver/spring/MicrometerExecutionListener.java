@@ -0,0 +1,80 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioPhase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records scenario and phase timers tagged by group. Tagging by scenario name creates one time series per scenario,
+ * so it is opt-in and best kept for suites small enough for the metrics backend.
+ */
+public final class MicrometerExecutionListener implements ExecutionListener {
+    public static final String PHASE_TIMER = "scenarioweaver.scenario.phase";
+    public static final String SCENARIO_TIMER = "scenarioweaver.scenario";
+
+    private final Meter.MeterProvider<Timer> phaseTimers;
+    private final Meter.MeterProvider<Timer> scenarioTimers;
+    private final boolean tagScenarios;
+
+    public MicrometerExecutionListener(final MeterRegistry registry) {
+        this(registry, false);
+    }
+
+    public MicrometerExecutionListener(final MeterRegistry registry, final boolean tagScenarios) {
+        if (Objects.isNull(registry)) {
+            throw new IllegalArgumentException("MeterRegistry is required to record scenario timings");
+        }
+        this.phaseTimers = Timer.builder(PHASE_TIMER)
+                .description("Time spent per scenario phase")
+                .withRegistry(registry);
+        this.scenarioTimers = Timer.builder(SCENARIO_TIMER)
+                .description("Total scenario execution time")
+                .withRegistry(registry);
+        this.tagScenarios = tagScenarios;
+    }
+
+    @Override
+    public void phaseCompleted(
+            final TestCase<?, ?, ?, ?> testCase, final ScenarioPhase phase, final long durationNanos) {
+        phaseTimers
+                .withTags(tags(testCase, "phase", phase.name().toLowerCase(Locale.ROOT)))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void scenarioCompleted(
+            final TestCase<?, ?, ?, ?> testCase, final long durationNanos, final Throwable failure) {
+        scenarioTimers
+                .withTags(tags(testCase, "outcome", Objects.isNull(failure) ? "success" : "failure"))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Tags tags(final TestCase<?, ?, ?, ?> testCase, final String key, final String value) {
+        final Tags tags = Tags.of("group", testCase.group(), key, value);
+        return tagScenarios ? tags.and("scenario", testCase.name()) : tags;
+    }
+}
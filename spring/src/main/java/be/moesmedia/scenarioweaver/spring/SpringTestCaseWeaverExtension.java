@@ -17,30 +17,112 @@
  */
 package be.moesmedia.scenarioweaver.spring;
 
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.CloseableTestExecutor;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.ScenarioScheduler;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.TestExecutors;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
-public final class SpringTestCaseWeaverExtension implements ParameterResolver {
+public final class SpringTestCaseWeaverExtension implements ParameterResolver, ExecutionCondition {
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SpringTestCaseWeaverExtension.class);
 
     @Override
     public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-        return parameterContext.isAnnotated(InjectTestCase.class)
-                && TestCase.class.isAssignableFrom(
-                        parameterContext.getParameter().getType());
+        final Class<?> type = parameterContext.getParameter().getType();
+        return isExecutor(type)
+                || (parameterContext.isAnnotated(InjectTestCase.class) && TestCase.class.isAssignableFrom(type));
     }
 
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        if (isExecutor(parameterContext.getParameter().getType())) {
+            return executor(extensionContext);
+        }
         InjectTestCase injectTestCase =
                 parameterContext.findAnnotation(InjectTestCase.class).orElse(null);
         String testCaseName = injectTestCase.value();
 
         ApplicationContext ctx = SpringExtension.getApplicationContext(extensionContext);
 
-        return ctx.getBean(testCaseName, TestCase.class);
+        if (scopeOf(ctx, testCaseName) != TestCaseScope.PER_TEST_CLASS) {
+            return ctx.getBean(testCaseName, TestCase.class);
+        }
+        return classContext(extensionContext)
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(testCaseName, name -> ctx.getBean(name, TestCase.class), TestCase.class);
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(final ExtensionContext extensionContext) {
+        final Optional<ScenarioScheduler.Shard> shard = ScenarioScheduler.Shard.fromSystemProperties();
+        if (shard.isEmpty() || extensionContext.getTestMethod().isEmpty()) {
+            return ConditionEvaluationResult.enabled("Not sharded");
+        }
+        return Arrays.stream(extensionContext.getRequiredTestMethod().getParameters())
+                .map(parameter -> parameter.getAnnotation(InjectTestCase.class))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(InjectTestCase::value)
+                .filter(name -> !ScenarioScheduler.shared().inShard(name, shard.get()))
+                .map(name -> ConditionEvaluationResult.disabled("Scenario '" + name + "' runs in another shard than "
+                        + shard.get().index() + " of " + shard.get().count()))
+                .orElseGet(() -> ConditionEvaluationResult.enabled("Scenario runs in this shard"));
+    }
+
+    /**
+     * One executor per test class, reporting to the context's listeners and sharing its group stubs. The class-level
+     * store closes it once the class has finished; the stub contexts stay with the (cached) application context.
+     */
+    private static CloseableTestExecutor executor(final ExtensionContext extensionContext) {
+        final ExtensionContext classContext = classContext(extensionContext);
+        return classContext
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(
+                        CloseableTestExecutor.class,
+                        key -> createExecutor(
+                                SpringExtension.getApplicationContext(classContext),
+                                classContext.getRequiredTestClass()),
+                        CloseableTestExecutor.class);
+    }
+
+    private static CloseableTestExecutor createExecutor(final ApplicationContext ctx, final Class<?> testClass) {
+        final String factoryBeanName = BeanFactory.FACTORY_BEAN_PREFIX + TestExecutorFactoryBean.BEAN_NAME;
+        if (!ctx.containsBean(factoryBeanName) || !ctx.isTypeMatch(factoryBeanName, TestExecutorFactoryBean.class)) {
+            return TestExecutors.forTestClass(testClass);
+        }
+        final TestExecutorFactoryBean factory = ctx.getBean(factoryBeanName, TestExecutorFactoryBean.class);
+        return TestExecutors.forTestClass(testClass, factory.listener(), factory.stubContexts());
+    }
+
+    private static boolean isExecutor(final Class<?> type) {
+        return type == TestExecutor.class || type == CloseableTestExecutor.class;
+    }
+
+    private static TestCaseScope scopeOf(final ApplicationContext ctx, final String testCaseName) {
+        final String factoryBeanName = BeanFactory.FACTORY_BEAN_PREFIX + testCaseName;
+        if (!ctx.containsBean(factoryBeanName) || !ctx.isTypeMatch(factoryBeanName, TestCaseFactoryBean.class)) {
+            return TestCaseScope.SINGLETON;
+        }
+        return ctx.getBean(factoryBeanName, TestCaseFactoryBean.class).getScope();
+    }
+
+    private static ExtensionContext classContext(final ExtensionContext extensionContext) {
+        ExtensionContext current = extensionContext;
+        while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
     }
 }
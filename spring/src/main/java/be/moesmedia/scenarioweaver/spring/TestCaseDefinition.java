@@ -0,0 +1,111 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public record TestCaseDefinition(
+        String className,
+        String name,
+        String group,
+        String description,
+        String stubsProvider,
+        String propertiesProvider,
+        String payloadProvider,
+        String actionProvider,
+        TestCaseScope scope,
+        String timeouts,
+        List<String> dependsOn) {
+    public TestCaseDefinition {
+        if (Objects.isNull(className) || className.isEmpty()) {
+            throw new IllegalArgumentException("A TestCase definition requires the configuring class name");
+        }
+        name = Objects.requireNonNullElse(name, "");
+        group = Objects.requireNonNullElse(group, "");
+        description = Objects.requireNonNullElse(description, "");
+        scope = Objects.requireNonNullElse(scope, TestCaseScope.SINGLETON);
+        timeouts = Objects.requireNonNullElse(timeouts, "");
+        dependsOn = List.copyOf(Objects.requireNonNullElse(dependsOn, List.of()));
+    }
+
+    public static TestCaseDefinition of(final Class<?> configClass) {
+        final ConfigureTestCase config = configClass.getAnnotation(ConfigureTestCase.class);
+        if (Objects.isNull(config)) {
+            throw new IllegalArgumentException(configClass.getName() + " is not annotated with @ConfigureTestCase");
+        }
+        return of(configClass.getName(), config);
+    }
+
+    public static TestCaseDefinition of(final String className, final ConfigureTestCase config) {
+        return new TestCaseDefinition(
+                className,
+                config.name(),
+                config.group(),
+                config.description(),
+                config.stubsProvider(),
+                config.propertiesProvider(),
+                config.payloadProvider(),
+                config.actionProvider(),
+                config.scope(),
+                timeoutsOf(config).toString(),
+                List.of(config.dependsOn()));
+    }
+
+    public static List<String> dependencies(final String spec) {
+        if (Objects.isNull(spec) || spec.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(spec.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+    }
+
+    private static ScenarioTimeouts timeoutsOf(final ConfigureTestCase config) {
+        ScenarioTimeouts timeouts = config.timeoutMillis() > 0
+                ? ScenarioTimeouts.of(Duration.ofMillis(config.timeoutMillis()))
+                : ScenarioTimeouts.NONE;
+        for (final PhaseTimeout phaseTimeout : config.phaseTimeouts()) {
+            timeouts = timeouts.withPhase(phaseTimeout.phase(), Duration.ofMillis(phaseTimeout.millis()));
+        }
+        return timeouts;
+    }
+
+    @Override
+    public List<String> dependsOn() {
+        // already an immutable copy, so List.copyOf hands back the same instance
+        return List.copyOf(dependsOn);
+    }
+
+    public String beanName() {
+        if (!name.isEmpty()) {
+            return name;
+        }
+        final String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return simpleName.substring(simpleName.lastIndexOf('$') + 1);
+    }
+
+    public String packageName() {
+        final int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+}
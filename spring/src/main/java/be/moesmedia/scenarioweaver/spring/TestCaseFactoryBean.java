@@ -20,17 +20,23 @@ package be.moesmedia.scenarioweaver.spring;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
 import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
-import java.lang.reflect.Method;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.util.function.SingletonSupplier;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
-public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?, ?>>, ApplicationContextAware {
+public final class TestCaseFactoryBean
+        implements FactoryBean<TestCase<?, ?, ?, ?>>, ApplicationContextAware, BeanNameAware {
     private final Class<?> configClass;
     private final String stubsProviderName;
     private final String propertiesProviderName;
@@ -38,8 +44,13 @@ public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?,
     private final String actionProviderName;
     private final String description;
     private final String group;
+    private final TestCaseScope scope;
+    private final ScenarioTimeouts timeouts;
+    private final List<String> dependsOn;
 
     private ApplicationContext ctx;
+    private String beanName;
+    private volatile TestCase<?, ?, ?, ?> singletonInstance;
 
     public TestCaseFactoryBean(
             Class<?> configClass,
@@ -49,6 +60,72 @@ public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?,
             String actionProviderName,
             String description,
             String group) {
+        this(
+                configClass,
+                stubsProviderName,
+                propertiesProviderName,
+                payloadProviderName,
+                actionProviderName,
+                description,
+                group,
+                TestCaseScope.SINGLETON);
+    }
+
+    public TestCaseFactoryBean(
+            Class<?> configClass,
+            String stubsProviderName,
+            String propertiesProviderName,
+            String payloadProviderName,
+            String actionProviderName,
+            String description,
+            String group,
+            TestCaseScope scope) {
+        this(
+                configClass,
+                stubsProviderName,
+                propertiesProviderName,
+                payloadProviderName,
+                actionProviderName,
+                description,
+                group,
+                scope,
+                "");
+    }
+
+    public TestCaseFactoryBean(
+            Class<?> configClass,
+            String stubsProviderName,
+            String propertiesProviderName,
+            String payloadProviderName,
+            String actionProviderName,
+            String description,
+            String group,
+            TestCaseScope scope,
+            String timeouts) {
+        this(
+                configClass,
+                stubsProviderName,
+                propertiesProviderName,
+                payloadProviderName,
+                actionProviderName,
+                description,
+                group,
+                scope,
+                timeouts,
+                "");
+    }
+
+    public TestCaseFactoryBean(
+            Class<?> configClass,
+            String stubsProviderName,
+            String propertiesProviderName,
+            String payloadProviderName,
+            String actionProviderName,
+            String description,
+            String group,
+            TestCaseScope scope,
+            String timeouts,
+            String dependsOn) {
         this.configClass = configClass;
         this.stubsProviderName = stubsProviderName;
         this.propertiesProviderName = propertiesProviderName;
@@ -56,6 +133,13 @@ public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?,
         this.actionProviderName = actionProviderName;
         this.description = description;
         this.group = group;
+        this.scope = Objects.requireNonNullElse(scope, TestCaseScope.SINGLETON);
+        this.timeouts = ScenarioTimeouts.parse(timeouts);
+        this.dependsOn = TestCaseDefinition.dependencies(dependsOn);
+    }
+
+    public TestCaseScope getScope() {
+        return scope;
     }
 
     @Override
@@ -63,25 +147,60 @@ public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?,
         this.ctx = applicationContext;
     }
 
+    @Override
+    public void setBeanName(String name) {
+        this.beanName = name;
+    }
+
     @Override
     public TestCase<?, ?, ?, ?> getObject() {
-        try {
-            final Object stubsProvider = ctx.getBean(stubsProviderName);
-            final Object propertiesProvider = ctx.getBean(propertiesProviderName);
-            final Object payloadProvider = ctx.getBean(payloadProviderName);
-            final Object actionProvider = ctx.getBean(actionProviderName);
-
-            Object testCaseInstance = configClass.getDeclaredConstructor().newInstance();
-            List<?> assertions = Collections.emptyList();
-            for (Method m : configClass.getDeclaredMethods()) {
-                if (m.isAnnotationPresent(be.moesmedia.scenarioweaver.spring.Assertions.class)) {
-                    m.setAccessible(true);
-                    assertions = (List<?>) m.invoke(testCaseInstance);
-                    break;
+        if (scope != TestCaseScope.SINGLETON) {
+            return createTestCase();
+        }
+        TestCase<?, ?, ?, ?> instance = singletonInstance;
+        if (instance == null) {
+            synchronized (this) {
+                instance = singletonInstance;
+                if (instance == null) {
+                    instance = createTestCase();
+                    singletonInstance = instance;
                 }
             }
+        }
+        return instance;
+    }
 
-            List<?> finalAssertions = assertions;
+    @Override
+    public boolean isSingleton() {
+        return scope == TestCaseScope.SINGLETON;
+    }
+
+    private TestCase<?, ?, ?, ?> createTestCase() {
+        final Optional<TestCase<?, ?, ?, ?>> generated = WovenTestCase.generated(
+                configClass,
+                ctx,
+                new TestCaseDefinition(
+                        configClass.getName(),
+                        beanName,
+                        group,
+                        description,
+                        stubsProviderName,
+                        propertiesProviderName,
+                        payloadProviderName,
+                        actionProviderName,
+                        scope,
+                        timeouts.toString(),
+                        dependsOn));
+        if (generated.isPresent()) {
+            return generated.get();
+        }
+        try {
+            final SingletonSupplier<Object> stubsProvider = lazyBean(stubsProviderName);
+            final SingletonSupplier<Object> propertiesProvider = lazyBean(propertiesProviderName);
+            final SingletonSupplier<Object> payloadProvider = lazyBean(payloadProviderName);
+            final SingletonSupplier<Object> actionProvider = lazyBean(actionProviderName);
+            final ConfigClassHandles handles = ConfigClassHandles.forClass(configClass);
+            final SingletonSupplier<List<?>> finalAssertions = SingletonSupplier.of(handles::assertions);
             return new TestCase<>() {
                 @Override
                 public String description() {
@@ -90,27 +209,52 @@ public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?,
 
                 @Override
                 public PayloadProvider payloadProvider() {
-                    return (PayloadProvider) payloadProvider;
+                    return (PayloadProvider) payloadProvider.obtain();
                 }
 
                 @Override
                 public PropertiesProvider propertiesProvider() {
-                    return (PropertiesProvider) propertiesProvider;
+                    return (PropertiesProvider) propertiesProvider.obtain();
                 }
 
                 @Override
                 public StubsProvider stubs() {
-                    return (StubsProvider) stubsProvider;
+                    return (StubsProvider) stubsProvider.obtain();
                 }
 
                 @Override
                 public List assertions() {
-                    return finalAssertions;
+                    return finalAssertions.obtain();
                 }
 
                 @Override
                 public ActionProvider actionProvider() {
-                    return (ActionProvider) actionProvider;
+                    return (ActionProvider) actionProvider.obtain();
+                }
+
+                @Override
+                public String name() {
+                    return beanName;
+                }
+
+                @Override
+                public String group() {
+                    return group;
+                }
+
+                @Override
+                public ScenarioTimeouts timeouts() {
+                    return timeouts;
+                }
+
+                @Override
+                public List<String> dependsOn() {
+                    return dependsOn;
+                }
+
+                @Override
+                public List<Class<?>> fingerprintClasses() {
+                    return providerClasses();
                 }
             };
         } catch (Exception e) {
@@ -118,6 +262,21 @@ public final class TestCaseFactoryBean implements FactoryBean<TestCase<?, ?, ?,
         }
     }
 
+    private List<Class<?>> providerClasses() {
+        final List<Class<?>> classes = new ArrayList<>();
+        classes.add(configClass);
+        Stream.of(stubsProviderName, propertiesProviderName, payloadProviderName, actionProviderName)
+                .filter(Objects::nonNull)
+                .map(ctx::getType)
+                .filter(Objects::nonNull)
+                .forEach(classes::add);
+        return classes;
+    }
+
+    private SingletonSupplier<Object> lazyBean(final String name) {
+        return SingletonSupplier.of(() -> ctx.getBean(name));
+    }
+
     @Override
     public Class<?> getObjectType() {
         return TestCase.class;
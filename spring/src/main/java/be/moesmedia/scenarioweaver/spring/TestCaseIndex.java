@@ -0,0 +1,112 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+public final class TestCaseIndex {
+    public static final String LOCATION = "META-INF/scenario-weaver/test-cases.properties";
+
+    private static final String NAME = "name";
+    private static final String GROUP = "group";
+    private static final String DESCRIPTION = "description";
+    private static final String STUBS_PROVIDER = "stubsProvider";
+    private static final String PROPERTIES_PROVIDER = "propertiesProvider";
+    private static final String PAYLOAD_PROVIDER = "payloadProvider";
+    private static final String ACTION_PROVIDER = "actionProvider";
+    private static final String SCOPE = "scope";
+    private static final String TIMEOUTS = "timeouts";
+    private static final String DEPENDS_ON = "dependsOn";
+
+    private final Map<String, TestCaseDefinition> definitions;
+
+    public TestCaseIndex(final Collection<TestCaseDefinition> definitions) {
+        final Map<String, TestCaseDefinition> byClassName = new TreeMap<>();
+        definitions.forEach(definition -> byClassName.put(definition.className(), definition));
+        this.definitions = byClassName;
+    }
+
+    public static TestCaseIndex fromProperties(final Collection<Properties> indexFiles) {
+        final List<TestCaseDefinition> definitions = new ArrayList<>();
+        for (final Properties properties : indexFiles) {
+            for (final String key : properties.stringPropertyNames()) {
+                if (key.endsWith("." + STUBS_PROVIDER)) {
+                    final String className = key.substring(0, key.length() - STUBS_PROVIDER.length() - 1);
+                    definitions.add(new TestCaseDefinition(
+                            className,
+                            properties.getProperty(className + "." + NAME),
+                            properties.getProperty(className + "." + GROUP),
+                            properties.getProperty(className + "." + DESCRIPTION),
+                            properties.getProperty(key),
+                            properties.getProperty(className + "." + PROPERTIES_PROVIDER),
+                            properties.getProperty(className + "." + PAYLOAD_PROVIDER),
+                            properties.getProperty(className + "." + ACTION_PROVIDER),
+                            TestCaseScope.valueOf(
+                                    properties.getProperty(className + "." + SCOPE, TestCaseScope.SINGLETON.name())),
+                            properties.getProperty(className + "." + TIMEOUTS),
+                            TestCaseDefinition.dependencies(properties.getProperty(className + "." + DEPENDS_ON))));
+                }
+            }
+        }
+        return new TestCaseIndex(definitions);
+    }
+
+    public Properties toProperties() {
+        final Properties properties = new Properties();
+        definitions.values().forEach(definition -> {
+            final String prefix = definition.className() + ".";
+            properties.setProperty(prefix + NAME, definition.name());
+            properties.setProperty(prefix + GROUP, definition.group());
+            properties.setProperty(prefix + DESCRIPTION, definition.description());
+            properties.setProperty(prefix + STUBS_PROVIDER, definition.stubsProvider());
+            properties.setProperty(prefix + PROPERTIES_PROVIDER, definition.propertiesProvider());
+            properties.setProperty(prefix + PAYLOAD_PROVIDER, definition.payloadProvider());
+            properties.setProperty(prefix + ACTION_PROVIDER, definition.actionProvider());
+            properties.setProperty(prefix + SCOPE, definition.scope().name());
+            if (!definition.timeouts().isEmpty()) {
+                properties.setProperty(prefix + TIMEOUTS, definition.timeouts());
+            }
+            if (!definition.dependsOn().isEmpty()) {
+                properties.setProperty(prefix + DEPENDS_ON, String.join(",", definition.dependsOn()));
+            }
+        });
+        return properties;
+    }
+
+    public TestCaseIndex merge(final TestCaseIndex other) {
+        final List<TestCaseDefinition> merged = new ArrayList<>(definitions.values());
+        merged.addAll(other.definitions.values());
+        return new TestCaseIndex(merged);
+    }
+
+    public List<TestCaseDefinition> definitions() {
+        return List.copyOf(definitions.values());
+    }
+
+    public List<TestCaseDefinition> definitions(final String basePackage) {
+        return definitions.values().stream()
+                .filter(definition -> definition.packageName().equals(basePackage)
+                        || definition.packageName().startsWith(basePackage + "."))
+                .toList();
+    }
+}
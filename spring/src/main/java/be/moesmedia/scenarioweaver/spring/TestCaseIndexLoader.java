@@ -0,0 +1,85 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+public final class TestCaseIndexLoader {
+    public static final String IGNORE_INDEX = "scenarioweaver.index.ignore";
+
+    private static final ConcurrentMap<ClassLoader, Optional<TestCaseIndex>> CACHE = new ConcurrentReferenceHashMap<>();
+    private static final ConcurrentMap<ClassLoader, Map<String, List<TestCaseDefinition>>> SCANS =
+            new ConcurrentReferenceHashMap<>();
+
+    private TestCaseIndexLoader() {}
+
+    public static Optional<TestCaseIndex> loadIndex(final ClassLoader classLoader) {
+        if (SpringProperties.getFlag(IGNORE_INDEX)) {
+            return Optional.empty();
+        }
+        return CACHE.computeIfAbsent(resolve(classLoader), TestCaseIndexLoader::doLoadIndex);
+    }
+
+    public static List<TestCaseDefinition> findDefinitions(final ClassLoader classLoader, final String basePackage) {
+        final ClassLoader loader = resolve(classLoader);
+        return loadIndex(loader).map(index -> index.definitions(basePackage)).orElseGet(() -> SCANS.computeIfAbsent(
+                        loader, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(
+                        basePackage, pkg -> ConfigurableTestCaseScanner.getAnnotatedClasses(pkg, loader).stream()
+                                .map(TestCaseDefinition::of)
+                                .toList()));
+    }
+
+    public static void clearCache() {
+        CACHE.clear();
+        SCANS.clear();
+    }
+
+    private static ClassLoader resolve(final ClassLoader classLoader) {
+        return classLoader != null ? classLoader : TestCaseIndexLoader.class.getClassLoader();
+    }
+
+    private static Optional<TestCaseIndex> doLoadIndex(final ClassLoader classLoader) {
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(TestCaseIndex.LOCATION);
+            final List<Properties> indexFiles = new ArrayList<>();
+            while (urls.hasMoreElements()) {
+                final Properties properties = new Properties();
+                try (InputStream input = urls.nextElement().openStream()) {
+                    properties.load(input);
+                }
+                indexFiles.add(properties);
+            }
+            return indexFiles.isEmpty() ? Optional.empty() : Optional.of(TestCaseIndex.fromProperties(indexFiles));
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to load scenario index from " + TestCaseIndex.LOCATION, e);
+        }
+    }
+}
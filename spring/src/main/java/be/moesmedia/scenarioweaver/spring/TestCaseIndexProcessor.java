@@ -0,0 +1,116 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+@SupportedAnnotationTypes("be.moesmedia.scenarioweaver.spring.ConfigureTestCase")
+public final class TestCaseIndexProcessor extends AbstractProcessor {
+    private final List<TestCaseDefinition> definitions = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(ConfigureTestCase.class)) {
+            if (element instanceof TypeElement typeElement) {
+                final String className = processingEnv
+                        .getElementUtils()
+                        .getBinaryName(typeElement)
+                        .toString();
+                definitions.add(TestCaseDefinition.of(className, typeElement.getAnnotation(ConfigureTestCase.class)));
+                new WovenTestCaseWriter(processingEnv).write(typeElement, className);
+            }
+        }
+        if (roundEnv.processingOver() && !definitions.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            final TestCaseIndex index = readExistingIndex().merge(new TestCaseIndex(definitions));
+            final FileObject file =
+                    processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TestCaseIndex.LOCATION);
+            try (OutputStream output = file.openOutputStream()) {
+                output.write(render(index.toProperties()));
+            }
+        } catch (final IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Unable to write scenario index: " + e.getMessage());
+        }
+    }
+
+    private TestCaseIndex readExistingIndex() {
+        try {
+            final FileObject existing =
+                    processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", TestCaseIndex.LOCATION);
+            final Properties properties = new Properties();
+            try (InputStream input = existing.openInputStream()) {
+                properties.load(input);
+            }
+            return new TestCaseIndex(TestCaseIndex.fromProperties(List.of(properties)).definitions().stream()
+                    .filter(this::isStillConfigured)
+                    .toList());
+        } catch (final IOException e) {
+            return new TestCaseIndex(List.of());
+        }
+    }
+
+    /**
+     * Entries from an earlier compilation are kept only while their class still exists and is still annotated, so
+     * renamed or deleted scenarios drop out of the index on the next incremental build.
+     */
+    private boolean isStillConfigured(final TestCaseDefinition definition) {
+        final Elements elements = processingEnv.getElementUtils();
+        final TypeElement type = elements.getTypeElement(definition.className().replace('$', '.'));
+        return type != null && type.getAnnotation(ConfigureTestCase.class) != null;
+    }
+
+    private static byte[] render(final Properties properties) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        properties.store(output, null);
+        // store escapes everything outside ISO-8859-1, so the round trip through a String is lossless
+        final String stored = output.toString(StandardCharsets.ISO_8859_1);
+        final String withoutTimestamp = stored.startsWith("#") ? stored.substring(stored.indexOf('\n') + 1) : stored;
+        return withoutTimestamp.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+/**
+ * Registers reflection hints for the scenarios woven into a bean factory that is processed ahead of time. The bean
+ * definitions of those scenarios are not precomputed here; Spring's default code generation writes them out like any
+ * other bean definition, from the {@link TestCaseFactoryBean} constructor arguments the registrar recorded.
+ */
+public final class TestCaseWeavingAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(
+            final ConfigurableListableBeanFactory beanFactory) {
+        final List<TestCaseDefinition> definitions = Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .map(beanName ->
+                        beanFactory.getBeanDefinition(beanName).getAttribute(TestCaseDefinition.class.getName()))
+                .filter(TestCaseDefinition.class::isInstance)
+                .map(TestCaseDefinition.class::cast)
+                .toList();
+        if (definitions.isEmpty()) {
+            return null;
+        }
+        final ClassLoader classLoader = Objects.requireNonNullElseGet(
+                beanFactory.getBeanClassLoader(), TestCaseWeavingAotProcessor.class::getClassLoader);
+        return (generationContext, code) ->
+                definitions.forEach(definition -> TestCaseWeavingRuntimeHints.registerDefinition(
+                        generationContext.getRuntimeHints(), definition, classLoader));
+    }
+}
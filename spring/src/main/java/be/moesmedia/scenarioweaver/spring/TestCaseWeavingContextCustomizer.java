@@ -0,0 +1,63 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+
+final class TestCaseWeavingContextCustomizer implements ContextCustomizer {
+    private final List<String> basePackages;
+    private final boolean lazyInit;
+
+    TestCaseWeavingContextCustomizer(final boolean lazyInit, final String... basePackages) {
+        this.basePackages = List.copyOf(new TreeSet<>(List.of(basePackages)));
+        this.lazyInit = lazyInit;
+    }
+
+    @Override
+    public void customizeContext(
+            final ConfigurableApplicationContext context, final MergedContextConfiguration mergedConfig) {
+        if (!(context.getBeanFactory() instanceof BeanDefinitionRegistry registry)) {
+            throw new IllegalStateException("Scenario weaving requires a BeanDefinitionRegistry backed context");
+        }
+        if (AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        TestCaseWeavingRegistrar.registerTestCases(
+                registry, context.getClassLoader(), lazyInit, basePackages.toArray(String[]::new));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return this == other
+                || other instanceof TestCaseWeavingContextCustomizer that
+                        && lazyInit == that.lazyInit
+                        && basePackages.equals(that.basePackages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(TestCaseWeavingContextCustomizer.class, basePackages, lazyInit);
+    }
+}
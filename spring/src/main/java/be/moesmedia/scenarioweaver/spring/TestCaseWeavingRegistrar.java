@@ -17,12 +17,17 @@
  */
 package be.moesmedia.scenarioweaver.spring;
 
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
 import java.util.Map;
 import java.util.Optional;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
 
 public final class TestCaseWeavingRegistrar implements ImportBeanDefinitionRegistrar {
 
@@ -34,24 +39,64 @@ public final class TestCaseWeavingRegistrar implements ImportBeanDefinitionRegis
                 .orElseThrow(() ->
                         new IllegalArgumentException("@EnableTestCaseWeaving required attribute basePackages not set"));
         final String[] basePackages = (String[]) attributes.get("basePackages");
+        final boolean lazyInit = (Boolean) attributes.getOrDefault("lazyInit", Boolean.TRUE);
+        registerTestCases(registry, classLoaderOf(registry), lazyInit, basePackages);
+    }
 
+    static void registerTestCases(
+            final BeanDefinitionRegistry registry,
+            final ClassLoader classLoader,
+            final boolean lazyInit,
+            final String... basePackages) {
         for (final String basePackage : basePackages) {
-            for (final var clazz : ConfigurableTestCaseScanner.getAnnotatedClasses(basePackage)) {
-                final ConfigureTestCase config = clazz.getAnnotation(ConfigureTestCase.class);
-
-                final GenericBeanDefinition def = new GenericBeanDefinition();
-                def.setBeanClass(TestCaseFactoryBean.class);
-                def.getConstructorArgumentValues().addIndexedArgumentValue(0, clazz);
-                def.getConstructorArgumentValues().addIndexedArgumentValue(1, config.stubsProvider());
-                def.getConstructorArgumentValues().addIndexedArgumentValue(2, config.propertiesProvider());
-                def.getConstructorArgumentValues().addIndexedArgumentValue(3, config.payloadProvider());
-                def.getConstructorArgumentValues().addIndexedArgumentValue(4, config.actionProvider());
-                def.getConstructorArgumentValues().addIndexedArgumentValue(5, config.description());
-                def.getConstructorArgumentValues().addIndexedArgumentValue(6, config.group());
-
-                final String beanName = !config.name().isEmpty() ? config.name() : clazz.getSimpleName();
-                registry.registerBeanDefinition(beanName, def);
-            }
+            TestCaseIndexLoader.findDefinitions(classLoader, basePackage)
+                    .forEach(definition -> register(definition, registry, lazyInit));
+        }
+        if (!registry.containsBeanDefinition(TestExecutorFactoryBean.BEAN_NAME)) {
+            final GenericBeanDefinition executor = new GenericBeanDefinition();
+            executor.setBeanClass(TestExecutorFactoryBean.class);
+            executor.setLazyInit(true);
+            registry.registerBeanDefinition(TestExecutorFactoryBean.BEAN_NAME, executor);
+        }
+    }
+
+    private static void register(
+            final TestCaseDefinition definition, final BeanDefinitionRegistry registry, final boolean lazyInit) {
+        if (registry.containsBeanDefinition(definition.beanName())
+                && isRegistered(definition, registry.getBeanDefinition(definition.beanName()))) {
+            return;
+        }
+        final GenericBeanDefinition def = new GenericBeanDefinition();
+        def.setAttribute(TestCaseDefinition.class.getName(), definition);
+        def.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, TestCase.class);
+        def.setBeanClass(TestCaseFactoryBean.class);
+        def.setLazyInit(lazyInit);
+        def.getConstructorArgumentValues().addIndexedArgumentValue(0, definition.className(), Class.class.getName());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(1, definition.stubsProvider());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(2, definition.propertiesProvider());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(3, definition.payloadProvider());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(4, definition.actionProvider());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(5, definition.description());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(6, definition.group());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(7, definition.scope());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(8, definition.timeouts());
+        def.getConstructorArgumentValues().addIndexedArgumentValue(9, String.join(",", definition.dependsOn()));
+
+        registry.registerBeanDefinition(definition.beanName(), def);
+    }
+
+    private static ClassLoader classLoaderOf(final BeanDefinitionRegistry registry) {
+        if (registry instanceof ConfigurableBeanFactory beanFactory && beanFactory.getBeanClassLoader() != null) {
+            return beanFactory.getBeanClassLoader();
+        }
+        return ClassUtils.getDefaultClassLoader();
+    }
+
+    private static boolean isRegistered(final TestCaseDefinition definition, final BeanDefinition existing) {
+        final Object registered = existing.getAttribute(TestCaseDefinition.class.getName());
+        if (registered != null) {
+            return definition.equals(registered);
         }
+        return TestCaseFactoryBean.class.getName().equals(existing.getBeanClassName());
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.util.ClassUtils;
+
+public final class TestCaseWeavingRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+        hints.resources().registerPattern(TestCaseIndex.LOCATION);
+        hints.reflection()
+                .registerType(TestCaseFactoryBean.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)
+                .registerType(TestExecutorFactoryBean.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        TestCaseIndexLoader.loadIndex(classLoader).ifPresent(index -> index.definitions()
+                .forEach(definition -> registerDefinition(hints, definition, classLoader)));
+    }
+
+    static void registerDefinition(
+            final RuntimeHints hints, final TestCaseDefinition definition, final ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(
+                        TypeReference.of(definition.className()),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS);
+        final String generated = WovenTestCase.generatedClassName(definition.className());
+        if (ClassUtils.isPresent(generated, classLoader)) {
+            hints.reflection().registerType(TypeReference.of(generated), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.CloseableTestExecutor;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ExecutionListener;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioGroup;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.StubContextCache;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.TestExecutors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+
+public final class TestExecutorFactoryBean
+        implements FactoryBean<CloseableTestExecutor>, ApplicationContextAware, DisposableBean {
+    public static final String BEAN_NAME = "scenarioWeaverTestExecutor";
+
+    private ApplicationContext ctx;
+    private ExecutionListener listener;
+    private StubContextCache stubContexts;
+    private CloseableTestExecutor executor;
+
+    @Override
+    public synchronized void setApplicationContext(ApplicationContext applicationContext) {
+        this.ctx = applicationContext;
+    }
+
+    @Override
+    public synchronized CloseableTestExecutor getObject() {
+        if (executor == null) {
+            executor = TestExecutors.fromSystemProperties(listener(), stubContexts());
+        }
+        return executor;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return CloseableTestExecutor.class;
+    }
+
+    /**
+     * The {@link ExecutionListener} beans of the context, shared by every executor built for it.
+     */
+    public synchronized ExecutionListener listener() {
+        if (listener == null) {
+            listener = ExecutionListener.composite(
+                    ctx.getBeanProvider(ExecutionListener.class).orderedStream().toList());
+        }
+        return listener;
+    }
+
+    /**
+     * Stub contexts for the {@link ScenarioGroup} beans of the context. They live as long as the context, so test
+     * classes sharing a cached context also share their group stubs.
+     */
+    public synchronized StubContextCache stubContexts() {
+        if (stubContexts == null) {
+            stubContexts = new StubContextCache(ctx.getBeanProvider(ScenarioGroup.class)
+                    .orderedStream()
+                    .<ScenarioGroup<?>>map(group -> group)
+                    .toList());
+        }
+        return stubContexts;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        try {
+            if (executor != null) {
+                executor.close();
+            }
+        } finally {
+            if (stubContexts != null) {
+                stubContexts.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.IndependentAssertion;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ScenarioTimeouts;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.function.SingletonSupplier;
+
+public abstract class WovenTestCase<TPayload, TProps extends TestCaseProperties, TResult, TContext>
+        implements TestCase<TPayload, TProps, TResult, TContext> {
+    public static final String SUFFIX = "_WovenTestCase";
+
+    private static final MethodType CONSTRUCTOR_TYPE =
+            MethodType.methodType(void.class, ApplicationContext.class, TestCaseDefinition.class);
+
+    private static final ClassValue<Optional<MethodHandle>> GENERATED = new ClassValue<>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(final Class<?> configClass) {
+            try {
+                final Class<?> generated =
+                        Class.forName(generatedClassName(configClass.getName()), false, configClass.getClassLoader());
+                return Optional.of(MethodHandles.publicLookup()
+                        .findConstructor(generated, CONSTRUCTOR_TYPE)
+                        .asType(MethodType.methodType(
+                                TestCase.class, ApplicationContext.class, TestCaseDefinition.class)));
+            } catch (final ClassNotFoundException e) {
+                return Optional.empty();
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException("Generated TestCase for " + configClass.getName() + " is unusable", e);
+            }
+        }
+    };
+
+    private final ApplicationContext ctx;
+    private final TestCaseDefinition definition;
+    private final Class<?> configClass;
+    private final ScenarioTimeouts timeouts;
+    private final SingletonSupplier<PayloadProvider<TContext, TPayload>> payloadProvider;
+    private final SingletonSupplier<PropertiesProvider<TProps, TContext>> propertiesProvider;
+    private final SingletonSupplier<StubsProvider<TPayload, TProps, TContext>> stubsProvider;
+    private final SingletonSupplier<ActionProvider<TPayload, TProps, TResult>> actionProvider;
+    private final SingletonSupplier<List<AssertionsProvider<TResult, TPayload, TContext>>> assertions;
+
+    protected WovenTestCase(
+            final ApplicationContext ctx, final TestCaseDefinition definition, final Class<?> configClass) {
+        if (Objects.isNull(ctx) || Objects.isNull(definition) || Objects.isNull(configClass)) {
+            throw new IllegalArgumentException("Application context, definition and config class are required");
+        }
+        this.ctx = ctx;
+        this.definition = definition;
+        this.configClass = configClass;
+        this.timeouts = ScenarioTimeouts.parse(definition.timeouts());
+        this.payloadProvider = lazyBean(ctx, definition.payloadProvider());
+        this.propertiesProvider = lazyBean(ctx, definition.propertiesProvider());
+        this.stubsProvider = lazyBean(ctx, definition.stubsProvider());
+        this.actionProvider = lazyBean(ctx, definition.actionProvider());
+        this.assertions = SingletonSupplier.of(this::createAssertions);
+    }
+
+    public static String generatedClassName(final String configClassName) {
+        final int lastDot = configClassName.lastIndexOf('.');
+        return configClassName.substring(0, lastDot + 1)
+                + configClassName.substring(lastDot + 1).replace('$', '_')
+                + SUFFIX;
+    }
+
+    static Optional<TestCase<?, ?, ?, ?>> generated(
+            final Class<?> configClass, final ApplicationContext ctx, final TestCaseDefinition definition) {
+        return GENERATED.get(configClass).map(constructor -> {
+            try {
+                return (TestCase<?, ?, ?, ?>) constructor.invokeExact(ctx, definition);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Failed to create generated TestCase for " + configClass.getName(), e);
+            }
+        });
+    }
+
+    protected static <A, E, C> List<AssertionsProvider<A, E, C>> independent(
+            final List<? extends AssertionsProvider<A, E, C>> assertions) {
+        return assertions.stream()
+                .<AssertionsProvider<A, E, C>>map(IndependentAssertion::of)
+                .toList();
+    }
+
+    protected abstract List<AssertionsProvider<TResult, TPayload, TContext>> createAssertions();
+
+    @Override
+    public final String description() {
+        return definition.description();
+    }
+
+    @Override
+    public final PayloadProvider<TContext, TPayload> payloadProvider() {
+        return payloadProvider.obtain();
+    }
+
+    @Override
+    public final PropertiesProvider<TProps, TContext> propertiesProvider() {
+        return propertiesProvider.obtain();
+    }
+
+    @Override
+    public final StubsProvider<TPayload, TProps, TContext> stubs() {
+        return stubsProvider.obtain();
+    }
+
+    @Override
+    public final List<AssertionsProvider<TResult, TPayload, TContext>> assertions() {
+        return assertions.obtain();
+    }
+
+    @Override
+    public final ActionProvider<TPayload, TProps, TResult> actionProvider() {
+        return actionProvider.obtain();
+    }
+
+    @Override
+    public final String name() {
+        return definition.beanName();
+    }
+
+    @Override
+    public final String group() {
+        return definition.group();
+    }
+
+    @Override
+    public final ScenarioTimeouts timeouts() {
+        return timeouts;
+    }
+
+    @Override
+    public final List<String> dependsOn() {
+        return definition.dependsOn();
+    }
+
+    @Override
+    public final List<Class<?>> fingerprintClasses() {
+        final List<Class<?>> classes = new ArrayList<>();
+        classes.add(configClass);
+        classes.add(getClass());
+        Stream.of(
+                        definition.stubsProvider(),
+                        definition.propertiesProvider(),
+                        definition.payloadProvider(),
+                        definition.actionProvider())
+                .filter(Objects::nonNull)
+                .map(ctx::getType)
+                .filter(Objects::nonNull)
+                .forEach(classes::add);
+        return classes;
+    }
+
+    /**
+     * Final and empty so that no subclass can resurrect an instance whose constructor rejected its definition.
+     */
+    @Override
+    @SuppressWarnings({"deprecation", "removal", "checkstyle:NoFinalizer"})
+    protected final void finalize() {}
+
+    @SuppressWarnings("unchecked")
+    private static <T> SingletonSupplier<T> lazyBean(final ApplicationContext ctx, final String name) {
+        return SingletonSupplier.of(() -> (T) ctx.getBean(name));
+    }
+}
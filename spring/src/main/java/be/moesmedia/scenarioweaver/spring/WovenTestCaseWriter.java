@@ -0,0 +1,195 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+final class WovenTestCaseWriter {
+    private static final List<String> UNTYPED = List.of("java.lang.Object", "java.lang.Object", "java.lang.Object");
+
+    private final ProcessingEnvironment processingEnv;
+
+    WovenTestCaseWriter(final ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    void write(final TypeElement config, final String binaryName) {
+        if (!isInstantiable(config)) {
+            skip(config, "it is not a non-private concrete class with an accessible no-arg constructor");
+            return;
+        }
+        final Optional<ExecutableElement> assertions = ElementFilter.methodsIn(config.getEnclosedElements()).stream()
+                .filter(method -> method.getAnnotation(Assertions.class) != null)
+                .findFirst();
+        if (assertions.isPresent() && !isCallable(assertions.get())) {
+            skip(config, "its @Assertions method must be non-private and take no arguments");
+            return;
+        }
+        final List<String> types = assertions
+                .map(method -> assertionTypes(method.getReturnType()))
+                .orElse(Optional.of(UNTYPED))
+                .orElse(null);
+        if (types == null) {
+            skip(config, "its @Assertions method does not return List<AssertionsProvider<...>> with concrete types");
+            return;
+        }
+        final String generatedName = WovenTestCase.generatedClassName(binaryName);
+        try (Writer writer =
+                processingEnv.getFiler().createSourceFile(generatedName, config).openWriter()) {
+            writer.write(render(config, generatedName, types, assertions));
+        } catch (final IOException e) {
+            processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Unable to generate " + generatedName + ": " + e.getMessage());
+        }
+    }
+
+    private static String render(
+            final TypeElement config,
+            final String generatedName,
+            final List<String> types,
+            final Optional<ExecutableElement> assertions) {
+        final int lastDot = generatedName.lastIndexOf('.');
+        final String simpleName = generatedName.substring(lastDot + 1);
+        final String result = types.get(0);
+        final String payload = types.get(1);
+        final String context = types.get(2);
+        final String configName = config.getQualifiedName().toString();
+        final StringBuilder source = new StringBuilder();
+        if (lastDot > 0) {
+            source.append("package ").append(generatedName, 0, lastDot).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(TestCaseIndexProcessor.class.getName())
+                .append("\")\n")
+                .append("public final class ")
+                .append(simpleName)
+                .append("\n        extends ")
+                .append(WovenTestCase.class.getName())
+                .append('<')
+                .append(payload)
+                .append(", ")
+                .append(TestCaseProperties.class.getName())
+                .append(", ")
+                .append(result)
+                .append(", ")
+                .append(context)
+                .append("> {\n")
+                .append("    public ")
+                .append(simpleName)
+                .append("(\n            final org.springframework.context.ApplicationContext ctx,\n")
+                .append("            final ")
+                .append(TestCaseDefinition.class.getName())
+                .append(" definition) {\n")
+                .append("        super(ctx, definition, ")
+                .append(configName)
+                .append(".class);\n    }\n\n")
+                .append("    @Override\n    protected java.util.List<")
+                .append(AssertionsProvider.class.getName())
+                .append('<')
+                .append(result)
+                .append(", ")
+                .append(payload)
+                .append(", ")
+                .append(context)
+                .append(">> createAssertions() {\n        return ")
+                .append(assertions.map(method -> invocation(configName, method)).orElse("java.util.List.of()"))
+                .append(";\n    }\n}\n");
+        return source.toString();
+    }
+
+    private static String invocation(final String configName, final ExecutableElement method) {
+        final String target = method.getModifiers().contains(Modifier.STATIC) ? configName : "new " + configName + "()";
+        final String call = target + "." + method.getSimpleName() + "()";
+        return method.getAnnotation(Assertions.class).independent() ? "independent(" + call + ")" : call;
+    }
+
+    private boolean isInstantiable(final TypeElement config) {
+        if (config.getKind() != ElementKind.CLASS || config.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (Element current = config; current instanceof TypeElement type; current = current.getEnclosingElement()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)
+                    || (type.getNestingKind() == NestingKind.MEMBER
+                            && !type.getModifiers().contains(Modifier.STATIC))
+                    || type.getNestingKind() == NestingKind.LOCAL
+                    || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+        }
+        return ElementFilter.constructorsIn(config.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty()
+                        && !constructor.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private static boolean isCallable(final ExecutableElement method) {
+        return !method.getModifiers().contains(Modifier.PRIVATE)
+                && method.getParameters().isEmpty();
+    }
+
+    private Optional<List<String>> assertionTypes(final TypeMirror returnType) {
+        if (!(returnType instanceof DeclaredType list)
+                || !isType(list, List.class.getName())
+                || list.getTypeArguments().size() != 1
+                || !(list.getTypeArguments().get(0) instanceof DeclaredType provider)
+                || !isType(provider, AssertionsProvider.class.getName())
+                || provider.getTypeArguments().size() != 3) {
+            return Optional.empty();
+        }
+        final List<? extends TypeMirror> arguments = provider.getTypeArguments();
+        if (arguments.stream()
+                .anyMatch(
+                        argument -> argument.getKind() != TypeKind.DECLARED && argument.getKind() != TypeKind.ARRAY)) {
+            return Optional.empty();
+        }
+        return Optional.of(arguments.stream().map(TypeMirror::toString).toList());
+    }
+
+    private boolean isType(final DeclaredType type, final String qualifiedName) {
+        return ((TypeElement) processingEnv.getTypeUtils().asElement(type))
+                .getQualifiedName()
+                .contentEquals(qualifiedName);
+    }
+
+    private void skip(final TypeElement config, final String reason) {
+        processingEnv
+                .getMessager()
+                .printMessage(
+                        Diagnostic.Kind.NOTE,
+                        "Not generating a woven TestCase for " + config.getQualifiedName() + ", " + reason
+                                + "; it will be wired reflectively",
+                        config);
+    }
+}
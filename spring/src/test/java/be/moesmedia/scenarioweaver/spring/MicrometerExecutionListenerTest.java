@@ -0,0 +1,152 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PropertiesProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.StubsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.impl.DefaultTestExecutor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MicrometerExecutionListenerTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void timers_are_tagged_by_group_only_by_default() {
+        run(new MicrometerExecutionListener(registry), scenario("first", "orders"), scenario("second", "orders"));
+
+        final Timer scenarios = registry.get(MicrometerExecutionListener.SCENARIO_TIMER)
+                .tags("group", "orders", "outcome", "success")
+                .timer();
+        assertEquals(2, scenarios.count());
+        assertEquals(
+                1,
+                registry.find(MicrometerExecutionListener.SCENARIO_TIMER)
+                        .timers()
+                        .size());
+        assertNull(scenarios.getId().getTag("scenario"));
+    }
+
+    @Test
+    void scenario_names_are_tagged_when_enabled() {
+        run(new MicrometerExecutionListener(registry, true), scenario("first", "orders"), scenario("second", "orders"));
+
+        assertEquals(
+                2,
+                registry.find(MicrometerExecutionListener.SCENARIO_TIMER)
+                        .timers()
+                        .size());
+        assertEquals(
+                1,
+                registry.get(MicrometerExecutionListener.SCENARIO_TIMER)
+                        .tag("scenario", "first")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void phases_are_timed_per_phase() {
+        run(new MicrometerExecutionListener(registry), scenario("first", "orders"));
+
+        assertEquals(
+                1,
+                registry.get(MicrometerExecutionListener.PHASE_TIMER)
+                        .tags("group", "orders", "phase", "action")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void failures_are_tagged_with_their_outcome() {
+        final MicrometerExecutionListener listener = new MicrometerExecutionListener(registry);
+
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(listener)) {
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> executor.execute(new Scenario("broken", "orders", (p, c) -> {
+                        throw new IllegalStateException("boom");
+                    })));
+        }
+
+        assertEquals(
+                1,
+                registry.get(MicrometerExecutionListener.SCENARIO_TIMER)
+                        .tag("outcome", "failure")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void registry_is_required() {
+        assertThrows(IllegalArgumentException.class, () -> new MicrometerExecutionListener(null));
+    }
+
+    private static void run(final MicrometerExecutionListener listener, final Scenario... scenarios) {
+        try (DefaultTestExecutor executor = new DefaultTestExecutor(listener)) {
+            executor.executeAll(List.of(scenarios));
+        }
+    }
+
+    private static Scenario scenario(final String name, final String group) {
+        return new Scenario(name, group, (payload, props) -> payload);
+    }
+
+    private record Scenario(String name, String group, ActionProvider<String, TestCaseProperties, String> action)
+            implements TestCase<String, TestCaseProperties, String, Object> {
+        @Override
+        public String description() {
+            return name;
+        }
+
+        @Override
+        public PayloadProvider<Object, String> payloadProvider() {
+            return context -> name;
+        }
+
+        @Override
+        public PropertiesProvider<TestCaseProperties, Object> propertiesProvider() {
+            return null;
+        }
+
+        @Override
+        public StubsProvider<String, TestCaseProperties, Object> stubs() {
+            return null;
+        }
+
+        @Override
+        public List<AssertionsProvider<String, String, Object>> assertions() {
+            return List.of();
+        }
+
+        @Override
+        public ActionProvider<String, TestCaseProperties, String> actionProvider() {
+            return action;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.IndependentAssertion;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+class TestCaseFactoryBeanTest {
+    private static final AssertionsProvider<Object, Object, Object> INSTANCE_ASSERTION = (actual, expected, ctx) -> {};
+    private static final AssertionsProvider<Object, Object, Object> STATIC_ASSERTION = (actual, expected, ctx) -> {};
+
+    private GenericApplicationContext ctx;
+
+    @BeforeEach
+    void startContext() {
+        ctx = new GenericApplicationContext();
+        ctx.registerBean("payload", PayloadProvider.class, () -> context -> "payload");
+        ctx.registerBean("action", ActionProvider.class, () -> (payload, props) -> payload);
+        ctx.refresh();
+    }
+
+    @AfterEach
+    void closeContext() {
+        ctx.close();
+    }
+
+    @Test
+    void singleton_scope_builds_the_test_case_once() {
+        final TestCaseFactoryBean factory = factory(InstanceAssertions.class, TestCaseScope.SINGLETON);
+
+        assertTrue(factory.isSingleton());
+        assertSame(factory.getObject(), factory.getObject());
+    }
+
+    @Test
+    void per_test_class_scope_builds_a_test_case_per_lookup() {
+        final TestCaseFactoryBean factory = factory(InstanceAssertions.class, TestCaseScope.PER_TEST_CLASS);
+
+        assertFalse(factory.isSingleton());
+        assertEquals(TestCaseScope.PER_TEST_CLASS, factory.getScope());
+        assertNotSame(factory.getObject(), factory.getObject());
+    }
+
+    @Test
+    void prototype_scope_builds_a_test_case_per_lookup() {
+        final TestCaseFactoryBean factory = factory(InstanceAssertions.class, TestCaseScope.PROTOTYPE);
+
+        assertFalse(factory.isSingleton());
+        assertNotSame(factory.getObject(), factory.getObject());
+    }
+
+    @Test
+    void every_scope_resolves_providers_and_assertions() {
+        for (final TestCaseScope scope : TestCaseScope.values()) {
+            final TestCase<?, ?, ?, ?> testCase =
+                    factory(InstanceAssertions.class, scope).getObject();
+
+            assertEquals("scenario", testCase.name());
+            assertSame(ctx.getBean("payload"), testCase.payloadProvider());
+            assertSame(ctx.getBean("action"), testCase.actionProvider());
+            assertEquals(List.of(INSTANCE_ASSERTION), testCase.assertions());
+        }
+    }
+
+    @Test
+    void static_assertions_method_is_invoked() {
+        final TestCase<?, ?, ?, ?> testCase =
+                factory(StaticAssertions.class, TestCaseScope.PROTOTYPE).getObject();
+
+        assertEquals(List.of(STATIC_ASSERTION), testCase.assertions());
+    }
+
+    @Test
+    void independent_static_assertions_are_marked() {
+        final TestCase<?, ?, ?, ?> testCase = factory(IndependentStaticAssertions.class, TestCaseScope.SINGLETON)
+                .getObject();
+
+        assertEquals(1, testCase.assertions().size());
+        assertInstanceOf(IndependentAssertion.class, testCase.assertions().getFirst());
+    }
+
+    @Test
+    void config_class_without_assertions_has_none() {
+        final TestCase<?, ?, ?, ?> testCase =
+                factory(NoAssertions.class, TestCaseScope.SINGLETON).getObject();
+
+        assertTrue(testCase.assertions().isEmpty());
+    }
+
+    private TestCaseFactoryBean factory(final Class<?> configClass, final TestCaseScope scope) {
+        final TestCaseFactoryBean factory =
+                new TestCaseFactoryBean(configClass, null, null, "payload", "action", "a scenario", "", scope);
+        factory.setApplicationContext(ctx);
+        factory.setBeanName("scenario");
+        return factory;
+    }
+
+    static final class InstanceAssertions {
+        @Assertions
+        List<AssertionsProvider<Object, Object, Object>> assertions() {
+            return List.of(INSTANCE_ASSERTION);
+        }
+    }
+
+    static final class StaticAssertions {
+        @Assertions
+        static List<AssertionsProvider<Object, Object, Object>> assertions() {
+            return List.of(STATIC_ASSERTION);
+        }
+    }
+
+    static final class IndependentStaticAssertions {
+        @Assertions(independent = true)
+        static List<AssertionsProvider<Object, Object, Object>> assertions() {
+            return List.of(STATIC_ASSERTION);
+        }
+    }
+
+    static final class NoAssertions {}
+}
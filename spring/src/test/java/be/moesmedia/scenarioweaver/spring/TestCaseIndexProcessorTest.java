@@ -0,0 +1,222 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.GenericApplicationContext;
+
+class TestCaseIndexProcessorTest {
+    private static final String CONFIGURED =
+            "@be.moesmedia.scenarioweaver.spring.ConfigureTestCase(stubsProvider = \"\","
+                    + " propertiesProvider = \"\", payloadProvider = \"payload\", actionProvider = \"action\")";
+    private static final String PROVIDER = "be.moesmedia.scenarioweaver.spring.scenarioweaver.core.AssertionsProvider";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void generates_a_woven_test_case_that_resolves_its_assertions() throws Exception {
+        final Path output = directory.resolve("classes");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(
+                output,
+                Map.of(
+                        "com/example/Greeting.java",
+                        "package com.example;\n"
+                                + CONFIGURED + "\n"
+                                + "public class Greeting {\n"
+                                + "    public static final " + PROVIDER + "<String, String, Object> CHECK ="
+                                + " (actual, expected, ctx) -> {};\n"
+                                + "    @be.moesmedia.scenarioweaver.spring.Assertions\n"
+                                + "    java.util.List<" + PROVIDER + "<String, String, Object>> assertions() {\n"
+                                + "        return java.util.List.of(CHECK);\n"
+                                + "    }\n"
+                                + "}\n"));
+
+        final String generated =
+                Files.readString(generatedSources(output).resolve("com/example/Greeting_WovenTestCase.java"));
+        assertTrue(generated.contains("extends " + WovenTestCase.class.getName() + "<java.lang.String, "), generated);
+        assertTrue(generated.contains("return new com.example.Greeting().assertions();"), generated);
+        assertTrue(notes(diagnostics).isEmpty(), () -> notes(diagnostics).toString());
+        assertEquals(List.of("com.example.Greeting"), indexedClassNames(output));
+
+        try (URLClassLoader loader = new URLClassLoader(
+                        new URL[] {output.toUri().toURL()}, getClass().getClassLoader());
+                GenericApplicationContext ctx = new GenericApplicationContext()) {
+            ctx.registerBean("payload", PayloadProvider.class, () -> input -> "payload");
+            ctx.registerBean("action", ActionProvider.class, () -> (payload, props) -> payload);
+            ctx.refresh();
+            final Class<?> config = loader.loadClass("com.example.Greeting");
+
+            final TestCase<?, ?, ?, ?> testCase = WovenTestCase.generated(config, ctx, TestCaseDefinition.of(config))
+                    .orElseThrow();
+
+            assertInstanceOf(WovenTestCase.class, testCase);
+            assertEquals("Greeting", testCase.name());
+            assertEquals(List.of(config.getField("CHECK").get(null)), testCase.assertions());
+        }
+    }
+
+    @Test
+    void private_and_inner_classes_are_indexed_but_not_woven() throws Exception {
+        final Path output = directory.resolve("classes");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(
+                output,
+                Map.of(
+                        "com/example/Outer.java",
+                        "package com.example;\n"
+                                + "public class Outer {\n"
+                                + "    " + CONFIGURED + " private static class Hidden {}\n"
+                                + "    " + CONFIGURED + " public class Inner {}\n"
+                                + "}\n"));
+
+        assertFalse(Files.exists(generatedSources(output).resolve("com/example/Outer_Hidden_WovenTestCase.java")));
+        assertFalse(Files.exists(generatedSources(output).resolve("com/example/Outer_Inner_WovenTestCase.java")));
+        assertEquals(2, notes(diagnostics).size(), () -> notes(diagnostics).toString());
+        assertTrue(notes(diagnostics).stream().allMatch(note -> note.contains("not a non-private concrete class")));
+        assertEquals(List.of("com.example.Outer$Hidden", "com.example.Outer$Inner"), indexedClassNames(output));
+    }
+
+    @Test
+    void assertions_without_concrete_types_are_not_woven() throws Exception {
+        final Path output = directory.resolve("classes");
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile(
+                output,
+                Map.of(
+                        "com/example/Generic.java",
+                        "package com.example;\n"
+                                + CONFIGURED + "\n"
+                                + "public class Generic<T> {\n"
+                                + "    @be.moesmedia.scenarioweaver.spring.Assertions\n"
+                                + "    java.util.List<" + PROVIDER + "<T, String, Object>> assertions() {\n"
+                                + "        return java.util.List.of();\n"
+                                + "    }\n"
+                                + "}\n",
+                        "com/example/Wildcard.java",
+                        "package com.example;\n"
+                                + CONFIGURED + "\n"
+                                + "public class Wildcard {\n"
+                                + "    @be.moesmedia.scenarioweaver.spring.Assertions\n"
+                                + "    static java.util.List<" + PROVIDER + "<?, ?, ?>> assertions() {\n"
+                                + "        return java.util.List.of();\n"
+                                + "    }\n"
+                                + "}\n"));
+
+        assertFalse(Files.exists(generatedSources(output).resolve("com/example/Generic_WovenTestCase.java")));
+        assertFalse(Files.exists(generatedSources(output).resolve("com/example/Wildcard_WovenTestCase.java")));
+        assertEquals(2, notes(diagnostics).size(), () -> notes(diagnostics).toString());
+        assertTrue(notes(diagnostics).stream().allMatch(note -> note.contains("with concrete types")));
+        assertEquals(List.of("com.example.Generic", "com.example.Wildcard"), indexedClassNames(output));
+    }
+
+    @Test
+    void incremental_compilation_prunes_only_scenarios_that_are_gone() throws Exception {
+        final Path output = directory.resolve("classes");
+        final String kept = "package com.example;\n" + CONFIGURED + "\npublic class Kept {}\n";
+        final String removed = "package com.example;\n" + CONFIGURED + "\npublic class Removed {}\n";
+        final String touched = "package com.example;\n" + CONFIGURED + "\npublic class Touched {}\n";
+        compile(output, Map.of("com/example/Kept.java", kept, "com/example/Removed.java", removed));
+        assertEquals(List.of("com.example.Kept", "com.example.Removed"), indexedClassNames(output));
+
+        // an incremental build deletes the stale class and recompiles only the changed sources
+        Files.delete(output.resolve("com/example/Removed.class"));
+        compile(output, Map.of("com/example/Touched.java", touched));
+
+        assertEquals(List.of("com.example.Kept", "com.example.Touched"), indexedClassNames(output));
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(final Path output, final Map<String, String> sources)
+            throws IOException {
+        final Path sourceRoot = Files.createDirectories(directory.resolve("sources"));
+        final List<Path> files = new ArrayList<>();
+        for (final Map.Entry<String, String> source : sources.entrySet()) {
+            final Path file = sourceRoot.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            files.add(file);
+        }
+        Files.createDirectories(generatedSources(output));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                    null,
+                    fileManager,
+                    diagnostics,
+                    List.of(
+                            "-d",
+                            output.toString(),
+                            "-s",
+                            generatedSources(output).toString(),
+                            "-cp",
+                            output + File.pathSeparator + System.getProperty("java.class.path")),
+                    null,
+                    fileManager.getJavaFileObjectsFromPaths(files));
+            task.setProcessors(List.of(new TestCaseIndexProcessor()));
+            assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    private Path generatedSources(final Path output) {
+        return directory.resolve("generated").resolve(output.getFileName());
+    }
+
+    private static List<String> notes(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .filter(message -> message.startsWith("Not generating a woven TestCase"))
+                .toList();
+    }
+
+    private static List<String> indexedClassNames(final Path output) throws IOException {
+        final Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(output.resolve(TestCaseIndex.LOCATION))) {
+            properties.load(input);
+        }
+        return TestCaseIndex.fromProperties(List.of(properties)).definitions().stream()
+                .map(TestCaseDefinition::className)
+                .toList();
+    }
+}
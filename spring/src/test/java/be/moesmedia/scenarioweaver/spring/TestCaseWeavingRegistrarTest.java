@@ -0,0 +1,93 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.SimpleBeanDefinitionRegistry;
+import org.springframework.core.type.AnnotationMetadata;
+
+class TestCaseWeavingRegistrarTest {
+    private static final String INDEXED = "com.example.indexed.IndexedScenario";
+
+    @TempDir
+    Path classpath;
+
+    @AfterEach
+    void clearIndexCache() {
+        TestCaseIndexLoader.clearCache();
+    }
+
+    @Test
+    void reads_the_index_through_the_bean_factory_class_loader() throws IOException {
+        try (URLClassLoader loader = indexedClassLoader()) {
+            final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+            beanFactory.setBeanClassLoader(loader);
+
+            new TestCaseWeavingRegistrar().registerBeanDefinitions(metadata(), beanFactory);
+
+            assertTrue(beanFactory.containsBeanDefinition("IndexedScenario"));
+            assertEquals(
+                    TestCaseFactoryBean.class.getName(),
+                    beanFactory.getBeanDefinition("IndexedScenario").getBeanClassName());
+            assertTrue(beanFactory.containsBeanDefinition(TestExecutorFactoryBean.BEAN_NAME));
+        }
+    }
+
+    @Test
+    void falls_back_to_the_default_class_loader_for_plain_registries() {
+        final SimpleBeanDefinitionRegistry registry = new SimpleBeanDefinitionRegistry();
+
+        new TestCaseWeavingRegistrar().registerBeanDefinitions(metadata(), registry);
+
+        assertFalse(registry.containsBeanDefinition("IndexedScenario"));
+        assertTrue(registry.containsBeanDefinition(TestExecutorFactoryBean.BEAN_NAME));
+    }
+
+    private URLClassLoader indexedClassLoader() throws IOException {
+        final TestCaseIndex index = new TestCaseIndex(List.of(
+                new TestCaseDefinition(INDEXED, "", "", "", "stubs", "props", "payload", "action", null, null, null)));
+        final Path file = classpath.resolve(TestCaseIndex.LOCATION);
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file)) {
+            index.toProperties().store(out, null);
+        }
+        return new URLClassLoader(
+                new URL[] {classpath.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static AnnotationMetadata metadata() {
+        return AnnotationMetadata.introspect(WeavingConfig.class);
+    }
+
+    @EnableTestCaseWeaving(basePackages = "com.example.indexed")
+    static final class WeavingConfig {}
+}
@@ -0,0 +1,59 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.aot;
+
+import be.moesmedia.scenarioweaver.spring.ConfigureTestCase;
+import be.moesmedia.scenarioweaver.spring.EnableTestCaseWeaving;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.ActionProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.PayloadProvider;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCaseProperties;
+
+/**
+ * Fixtures for {@link TestCaseWeavingAotProcessorTest}. They are public because the code generated for them is loaded
+ * by a separate class loader.
+ */
+public final class AotScenarios {
+    private AotScenarios() {}
+
+    @EnableTestCaseWeaving(basePackages = "be.moesmedia.scenarioweaver.spring.aot", lazyInit = false)
+    public static final class WeavingConfig {}
+
+    @ConfigureTestCase(
+            name = "aotScenario",
+            stubsProvider = "",
+            propertiesProvider = "",
+            payloadProvider = "aotPayload",
+            actionProvider = "aotAction",
+            description = "an AOT processed scenario",
+            dependsOn = "upstream")
+    public static final class Scenario {}
+
+    public static final class Payload implements PayloadProvider<Object, String> {
+        @Override
+        public String create(final Object input) {
+            return "payload";
+        }
+    }
+
+    public static final class Action implements ActionProvider<String, TestCaseProperties, String> {
+        @Override
+        public String execute(final String payload, final TestCaseProperties props) {
+            return payload;
+        }
+    }
+}
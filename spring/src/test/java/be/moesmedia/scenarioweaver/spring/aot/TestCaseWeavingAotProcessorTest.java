@@ -0,0 +1,137 @@
+/*
+ * scenario-weaver-spring - Scenario based testing
+ * Copyright © 2025 MOES-Media (info@moes-media.be)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package be.moesmedia.scenarioweaver.spring.aot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import be.moesmedia.scenarioweaver.spring.TestCaseIndexLoader;
+import be.moesmedia.scenarioweaver.spring.scenarioweaver.core.TestCase;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.javapoet.ClassName;
+
+class TestCaseWeavingAotProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @AfterEach
+    void clearIndexCache() {
+        TestCaseIndexLoader.clearCache();
+    }
+
+    @Test
+    void aot_processed_context_starts_and_resolves_the_woven_scenarios() throws Exception {
+        final InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        final DefaultGenerationContext generationContext =
+                new DefaultGenerationContext(new ClassNameGenerator(ClassName.get(AotScenarios.class)), generatedFiles);
+        final ClassName initializerName;
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBeanDefinition("weavingConfig", new RootBeanDefinition(AotScenarios.WeavingConfig.class));
+            context.registerBeanDefinition("aotPayload", new RootBeanDefinition(AotScenarios.Payload.class));
+            context.registerBeanDefinition("aotAction", new RootBeanDefinition(AotScenarios.Action.class));
+            initializerName = new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+        }
+        generationContext.writeGeneratedContent();
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(AotScenarios.Scenario.class)
+                .test(generationContext.getRuntimeHints()));
+
+        try (URLClassLoader loader = new URLClassLoader(
+                        new URL[] {compile(generatedFiles).toUri().toURL()},
+                        getClass().getClassLoader());
+                GenericApplicationContext aotContext = new GenericApplicationContext()) {
+            @SuppressWarnings("unchecked")
+            final ApplicationContextInitializer<GenericApplicationContext> initializer =
+                    (ApplicationContextInitializer<GenericApplicationContext>)
+                            loader.loadClass(initializerName.reflectionName())
+                                    .getDeclaredConstructor()
+                                    .newInstance();
+            initializer.initialize(aotContext);
+            aotContext.refresh();
+
+            final TestCase<?, ?, ?, ?> scenario = aotContext.getBean("aotScenario", TestCase.class);
+
+            assertEquals("aotScenario", scenario.name());
+            assertEquals("an AOT processed scenario", scenario.description());
+            assertEquals(List.of("upstream"), scenario.dependsOn());
+            assertInstanceOf(AotScenarios.Payload.class, scenario.payloadProvider());
+            assertInstanceOf(AotScenarios.Action.class, scenario.actionProvider());
+        }
+    }
+
+    private Path compile(final InMemoryGeneratedFiles generatedFiles) throws IOException {
+        final Path sources = Files.createDirectories(output.resolve("sources"));
+        final Path classes = Files.createDirectories(output.resolve("classes"));
+        final List<Path> sourceFiles = new ArrayList<>();
+        for (final Map.Entry<String, InputStreamSource> file :
+                generatedFiles.getGeneratedFiles(GeneratedFiles.Kind.SOURCE).entrySet()) {
+            final Path target = sources.resolve(file.getKey());
+            Files.createDirectories(target.getParent());
+            try (InputStream input = file.getValue().getInputStream()) {
+                Files.copy(input, target);
+            }
+            sourceFiles.add(target);
+        }
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            final boolean compiled = compiler.getTask(
+                            null,
+                            fileManager,
+                            null,
+                            List.of(
+                                    "-proc:none",
+                                    "-d",
+                                    classes.toString(),
+                                    "-cp",
+                                    System.getProperty("java.class.path")),
+                            null,
+                            fileManager.getJavaFileObjectsFromPaths(sourceFiles))
+                    .call();
+            assertTrue(compiled, "generated AOT sources should compile");
+        }
+        return classes;
+    }
+}